@@ -0,0 +1,45 @@
+package cgpa.calculator;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Classification cost per class: the table lookup should take the same time
+// for every CGPA, while the if-ladder it replaced gets slower further down
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ClassificationBenchmark {
+
+    // One CGPA inside each class, best to worst
+    @Param({"4.75", "4.25", "3.75", "3.25", "2.50", "1.50", "0.50"})
+    public double cgpa;
+
+    @Benchmark
+    public Classification table() {
+        return Classification.of(cgpa);
+    }
+
+    @Benchmark
+    public String ladder() {
+        if (cgpa >= 4.5) return "First Class with Distinction";
+        else if (cgpa >= 4.0) return "First Class";
+        else if (cgpa >= 3.5) return "Second Class Upper";
+        else if (cgpa >= 3.0) return "Second Class Lower";
+        else if (cgpa >= 2.0) return "Third Class";
+        else if (cgpa >= 1.0) return "Pass";
+        else return "Fail";
+    }
+}
@@ -0,0 +1,138 @@
+package cgpa.calculator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+// Whole-cohort aggregation of a 1M-row result file, streamed through the
+// batch engine (line by line, or memory-mapped and parsed on every core) and
+// analysed in memory (on heap and off heap) on the fork/join pool
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class CohortAggregationBenchmark {
+
+    static final int ROWS = 1_000_000;
+    static final int COURSES_PER_STUDENT = 40;
+
+    private String csv;
+    private Path file;
+    private Cohort cohort;
+    private OffHeapCohortStore store;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        StringBuilder sb = new StringBuilder(ROWS * 32);
+        sb.append("studentId,course,marks,credits,geds\n");
+        for (int row = 0; row < ROWS; row++) {
+            sb.append('S').append(row / COURSES_PER_STUDENT).append(',')
+              .append("CSC").append(100 + random.nextInt(400)).append(',')
+              .append(random.nextInt(1001) / 10.0).append(',')
+              .append(1 + random.nextInt(4)).append(',')
+              .append(random.nextInt(4) == 0 ? "yes" : "no").append('\n');
+        }
+        csv = sb.toString();
+        try {
+            file = Files.createTempFile("cohort", ".csv");
+            Files.writeString(file, csv, StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        try (BufferedReader in = new BufferedReader(new StringReader(csv))) {
+            cohort = Cohort.load(in);
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        try (BufferedReader in = new BufferedReader(new StringReader(csv))) {
+            store = OffHeapCohortStore.load(in, GradingScale.active());
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Benchmark
+    public long batchCohort(Blackhole bh) throws IOException {
+        try (BufferedReader in = new BufferedReader(new StringReader(csv))) {
+            return BatchCgpaCalc.process(in, result -> bh.consume(result.getCgpa()));
+        }
+    }
+
+    @Benchmark
+    public long parallelBatchCohort(Blackhole bh) throws IOException {
+        return ResultFileParser.report(file, Runtime.getRuntime().availableProcessors(),
+            result -> bh.consume(result.getCgpa()));
+    }
+
+    // Full text report of every course, written to a channel that discards it
+    @Benchmark
+    public long textReport() throws IOException {
+        try (BufferedReader in = new BufferedReader(new StringReader(csv));
+             ResultWriter out = new ResultWriter(new DiscardChannel())) {
+            return BatchCgpaCalc.report(in, ResultSinks.create("text", out));
+        }
+    }
+
+    @Benchmark
+    public CohortAnalytics.Summary parallelAnalytics() {
+        return CohortAnalytics.analyze(cohort);
+    }
+
+    @Benchmark
+    public CohortAnalytics.Summary offHeapAnalytics() {
+        return CohortAnalytics.analyze(store);
+    }
+
+    @Benchmark
+    public CohortAnalytics.Summary sequentialAnalytics() {
+        CohortAnalytics.Summary summary = new CohortAnalytics.Summary();
+        CohortAnalytics.accumulate(cohort, GradingScale.FIVE_POINT, 0, cohort.studentCount(), summary);
+        return summary;
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    static final class DiscardChannel implements WritableByteChannel {
+        @Override
+        public int write(ByteBuffer src) {
+            int n = src.remaining();
+            src.position(src.limit());
+            return n;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package cgpa.calculator;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Per-course grading: marks -> grade -> points -> pass/fail, and classification
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GradingBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private double[] marks;
+    private String[] letters;
+    private boolean[] geds;
+    private double[] cgpas;
+    private int index;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        marks = new double[SIZE];
+        letters = new String[SIZE];
+        geds = new boolean[SIZE];
+        cgpas = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            marks[i] = random.nextInt(1001) / 10.0;
+            letters[i] = CgpaCalc.getGradeFromMarks(marks[i]);
+            geds[i] = random.nextInt(4) == 0;
+            cgpas[i] = random.nextInt(501) / 100.0;
+        }
+    }
+
+    private int next() {
+        return index = (index + 1) & (SIZE - 1);
+    }
+
+    @Benchmark
+    public String getGradeFromMarks() {
+        return CgpaCalc.getGradeFromMarks(marks[next()]);
+    }
+
+    @Benchmark
+    public double convertGradeToPoint5Scale() {
+        return CgpaCalc.convertGradeToPoint5Scale(letters[next()]);
+    }
+
+    @Benchmark
+    public boolean checkIfPassed() {
+        int i = next();
+        return CgpaCalc.checkIfPassed(letters[i], geds[i]);
+    }
+
+    @Benchmark
+    public String classifyPerformance() {
+        return CgpaCalc.classifyPerformance(cgpas[next()]);
+    }
+
+    @Benchmark
+    public boolean gradeCourse() {
+        int i = next();
+        return Grade.fromMarks(marks[i]).isPassed(geds[i]);
+    }
+
+    @Benchmark
+    public boolean gradeCourseOnScale() {
+        int i = next();
+        GradingScale scale = GradingScale.FIVE_POINT;
+        return scale.isPassed(scale.band(marks[i]), geds[i]);
+    }
+}
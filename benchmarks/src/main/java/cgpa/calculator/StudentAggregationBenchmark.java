@@ -0,0 +1,64 @@
+package cgpa.calculator;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Aggregating one student's transcript, in the GUI and in the batch engine
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StudentAggregationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int courses;
+
+    private CourseTableModel transcript;
+    private double[] marks;
+    private double[] credits;
+    private boolean[] geds;
+    private final BatchCgpaCalc.StudentResult result = new BatchCgpaCalc.StudentResult();
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        transcript = new CourseTableModel();
+        marks = new double[courses];
+        credits = new double[courses];
+        geds = new boolean[courses];
+        for (int i = 0; i < courses; i++) {
+            marks[i] = random.nextInt(1001) / 10.0;
+            credits[i] = 1 + random.nextInt(4);
+            geds[i] = random.nextInt(4) == 0;
+            transcript.addCourse("COURSE" + i, marks[i], credits[i], geds[i]);
+        }
+    }
+
+    @Benchmark
+    public CgpaCalcGUI.Stats computeStats() {
+        return CgpaCalcGUI.computeStats(transcript);
+    }
+
+    @Benchmark
+    public double batchStudent() {
+        result.reset("S1");
+        for (int i = 0; i < courses; i++) {
+            result.addCourse(marks[i], credits[i], geds[i]);
+        }
+        return result.getCgpa();
+    }
+}
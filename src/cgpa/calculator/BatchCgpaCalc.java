@@ -0,0 +1,341 @@
+package cgpa.calculator;
+
+import java.io.BufferedReader;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+// Non-interactive CGPA engine for registry result files.
+//
+// Reads rows of (studentId, course, marks, credits, isGEDS) separated by commas
+// or tabs and emits one result per student. Rows of a student must be contiguous
+// (registry exports are sorted by student), which lets the engine keep a single
+// running accumulator; only the ids already seen are kept, so a student whose
+// rows come back later fails with its line number instead of being split in two.
+// With --parallel the file is parsed by ResultFileParser on every core.
+// With --off-heap the file is loaded once into an OffHeapCohortStore and
+// reported from its columns, so --rank does not parse the file twice.
+public class BatchCgpaCalc {
+
+    private static final Metrics.Counter STUDENTS = Metrics.counter("batch.students");
+
+    // Running totals for one student, graded exactly like CgpaCalc.calculateCGPA()
+    public static class StudentResult {
+        private final GradingScale scale;
+        private String studentId;
+        private int courses;
+        private int failed;
+        private int invalid;
+        private double totalCreditHours;
+        private double totalGradePoints;
+
+        public StudentResult() {
+            this(GradingScale.active());
+        }
+
+        public StudentResult(GradingScale scale) {
+            this.scale = scale;
+        }
+
+        void reset(String studentId) {
+            this.studentId = studentId;
+            courses = 0;
+            failed = 0;
+            invalid = 0;
+            totalCreditHours = 0;
+            totalGradePoints = 0;
+        }
+
+        // Method to add one course, returns false if the marks were invalid
+        boolean addCourse(double marks, double creditHours, boolean gedsCourse) {
+            return addGraded(scale.band(marks), creditHours, gedsCourse);
+        }
+
+        // Method to add a course already graded on this result's scale
+        boolean addGraded(int band, double creditHours, boolean gedsCourse) {
+            if (band == GradingScale.INVALID) {
+                invalid++;
+                return false;
+            }
+            totalGradePoints += scale.points(band) * creditHours;
+            totalCreditHours += creditHours;
+            courses++;
+            if (!scale.isPassed(band, gedsCourse)) {
+                failed++;
+            }
+            return true;
+        }
+
+        public String getStudentId() {
+            return studentId;
+        }
+
+        public int getCourses() {
+            return courses;
+        }
+
+        public int getPassed() {
+            return courses - failed;
+        }
+
+        public int getFailed() {
+            return failed;
+        }
+
+        public int getInvalid() {
+            return invalid;
+        }
+
+        public double getTotalCreditHours() {
+            return totalCreditHours;
+        }
+
+        public double getTotalGradePoints() {
+            return totalGradePoints;
+        }
+
+        public double getCgpa() {
+            return totalCreditHours > 0 ? totalGradePoints / totalCreditHours : 0;
+        }
+
+        public GradingScale getScale() {
+            return scale;
+        }
+
+        public String getClassification() {
+            return CgpaCalc.classifyPerformance(scale.toFivePoint(getCgpa()));
+        }
+    }
+
+    // Receives parsed result rows in file order
+    public interface RowHandler {
+        void row(String studentId, String course, double marks, double creditHours, boolean gedsCourse);
+    }
+
+    // Method to parse a result file row by row. A header row is skipped;
+    // any other malformed row fails with its line number, as does a student
+    // whose rows come back after another student's.
+    // Course codes are interned in the shared catalog; a row with blank credit
+    // hours takes its credits and GEDS flag from the catalog
+    public static void readRows(BufferedReader in, RowHandler handler) throws IOException {
+        CourseCatalog catalog = CourseCatalog.shared();
+        long lineNumber = 0;
+        char separator = 0;
+        String lastStudent = null;
+        Set<String> students = new HashSet<>();
+        String line;
+
+        while ((line = in.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (separator == 0) {
+                separator = line.indexOf('\t') >= 0 ? '\t' : ',';
+            }
+            String[] fields = line.split(separator == '\t' ? "\t" : ",", -1);
+            if (fields.length < 5) {
+                throw new IOException("Line " + lineNumber + ": expected 5 fields but found " + fields.length);
+            }
+
+            double marks;
+            double creditHours;
+            String creditText = fields[3].trim();
+            try {
+                marks = Double.parseDouble(fields[2].trim());
+                creditHours = creditText.isEmpty() ? Double.NaN : Double.parseDouble(creditText);
+            } catch (NumberFormatException ex) {
+                if (lineNumber == 1) {
+                    continue; // Header row
+                }
+                throw new IOException("Line " + lineNumber + ": invalid marks or credit hours", ex);
+            }
+
+            CourseCatalog.Entry course = catalog.intern(fields[1].trim());
+            boolean gedsCourse = isYes(fields[4]);
+            if (creditText.isEmpty()) {
+                if (!course.hasCredits()) {
+                    throw new IOException("Line " + lineNumber + ": no credit hours and "
+                        + course.code() + " is not in the course catalog");
+                }
+                creditHours = course.credits();
+                gedsCourse = course.isGEDS();
+            }
+            String studentId = fields[0].trim();
+            if (!studentId.equals(lastStudent)) {
+                if (!students.add(studentId)) {
+                    throw new IOException("Line " + lineNumber + ": rows of " + studentId + " are not contiguous");
+                }
+                lastStudent = studentId;
+            }
+            handler.row(studentId, course.code(), marks, creditHours, gedsCourse);
+        }
+    }
+
+    // Method to stream a result file, calling out once per student.
+    // The StudentResult passed to out is reused, so copy what you need.
+    // Returns the number of students processed.
+    public static long process(BufferedReader in, Consumer<StudentResult> out) throws IOException {
+        return report(in, out::accept);
+    }
+
+    // Method to stream a result file into a sink, including per-course calls.
+    // Returns the number of students processed.
+    public static long report(BufferedReader in, ResultSink sink) throws IOException {
+        return report(in, sink, true);
+    }
+
+    // Method to stream a result file into a sink, counting its students in
+    // the batch.students metric only if counted; a second pass over the same
+    // file is not counted again
+    static long report(BufferedReader in, ResultSink sink, boolean counted) throws IOException {
+        StudentResult current = new StudentResult();
+        long[] students = {0};
+
+        try {
+            readRows(in, (studentId, course, marks, creditHours, gedsCourse) -> {
+                try {
+                    if (students[0] == 0 || !studentId.equals(current.studentId)) {
+                        if (students[0] > 0) {
+                            sink.endStudent(current);
+                        }
+                        current.reset(studentId);
+                        sink.beginStudent(studentId);
+                        students[0]++;
+                        if (Metrics.ENABLED && counted) {
+                            STUDENTS.increment();
+                        }
+                    }
+                    current.addCourse(marks, creditHours, gedsCourse);
+                    sink.course(current, course, marks, creditHours, gedsCourse);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+
+        if (students[0] > 0) {
+            sink.endStudent(current);
+        }
+        return students[0];
+    }
+
+    // Method to report a cohort already in memory, such as an off-heap
+    // archive, reading rows straight from its columns. Its students were
+    // counted when the cohort was read, so batch.students is left alone.
+    public static long report(CohortView cohort, GradingScale scale, ResultSink sink) throws IOException {
+        StudentResult current = new StudentResult(scale);
+        for (int student = 0; student < cohort.studentCount(); student++) {
+            String studentId = cohort.studentId(student);
+            current.reset(studentId);
+            sink.beginStudent(studentId);
+            long end = cohort.courseStart(student + 1);
+            for (long row = cohort.courseStart(student); row < end; row++) {
+                double credits = cohort.credits(row);
+                boolean geds = cohort.isGEDS(row);
+                current.addGraded(cohort.band(row, scale), credits, geds);
+                sink.course(current, cohort.courseName(row), cohort.marks(row), credits, geds);
+            }
+            sink.endStudent(current);
+        }
+        return cohort.studentCount();
+    }
+
+    static boolean isYes(String value) {
+        String v = value.trim().toLowerCase();
+        return v.equals("yes") || v.equals("y") || v.equals("true") || v.equals("1");
+    }
+
+    public static void main(String[] args) throws IOException {
+        GradingScale.initFromSystemProperty();
+        CourseCatalog.initFromSystemProperty();
+        String format = "csv";
+        boolean rank = false;
+        boolean parallel = false;
+        boolean offHeap = false;
+        int arg = 0;
+        while (arg < args.length) {
+            if (args[arg].equals("--format") && arg + 1 < args.length) {
+                format = args[arg + 1];
+                arg += 2;
+            } else if (args[arg].equals("--rank")) {
+                rank = true;
+                arg++;
+            } else if (args[arg].equals("--parallel")) {
+                parallel = true;
+                arg++;
+            } else if (args[arg].equals("--off-heap")) {
+                offHeap = true;
+                arg++;
+            } else {
+                break;
+            }
+        }
+        if (args.length <= arg || !isFormat(format)) {
+            System.err.println("Usage: BatchCgpaCalc [--format csv|jsonl|text] [--rank] [--parallel] [--off-heap] <results.csv|results.tsv> [output]");
+            System.exit(2);
+        }
+
+        Path input = Paths.get(args[arg]);
+        OffHeapCohortStore store = null;
+        if (offHeap) {
+            store = new OffHeapCohortStore(GradingScale.active());
+            report(input, parallel, store.loader(), true);
+        }
+        CohortRanking ranking = null;
+        if (rank) {
+            // A first pass over the file ranks every student before any is written
+            CohortRanking cohort = new CohortRanking(GradingScale.active().getMaxPoints());
+            ResultSink ranker = student -> cohort.add(student.getCgpa());
+            if (store != null) {
+                report(store, store.getScale(), ranker);
+            } else {
+                report(input, parallel, ranker, false);
+            }
+            ranking = cohort;
+        }
+        WritableByteChannel channel = args.length > arg + 1
+            ? FileChannel.open(Paths.get(args[arg + 1]), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)
+            : new FileOutputStream(FileDescriptor.out).getChannel();
+
+        try (ResultWriter writer = new ResultWriter(channel)) {
+            ResultSink sink = ResultSinks.create(format, writer, ranking);
+            long students = store != null ? report(store, store.getScale(), sink) : report(input, parallel, sink, true);
+            writer.flush();
+            System.err.printf("Processed %d students%n", students);
+        }
+    }
+
+    // Method to report a result file, parsed on worker threads if parallel
+    private static long report(Path input, boolean parallel, ResultSink sink, boolean counted) throws IOException {
+        if (parallel) {
+            return ResultFileParser.report(input, Runtime.getRuntime().availableProcessors(), sink, counted);
+        }
+        try (BufferedReader in = Files.newBufferedReader(input, StandardCharsets.UTF_8)) {
+            return report(in, sink, counted);
+        }
+    }
+
+    private static boolean isFormat(String format) {
+        for (String known : ResultSinks.FORMATS) {
+            if (known.equalsIgnoreCase(format)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
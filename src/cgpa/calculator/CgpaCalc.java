@@ -5,8 +5,9 @@ public class CgpaCalc {
 	// Method to calculate CGPA
     public static double calculateCGPA() {
         Scanner scanner = new Scanner(System.in);
+        GradingScale scale = GradingScale.active();
         
-        System.out.println("=== CGPA CALCULATOR (5.0 SCALE) ===");
+        System.out.println("=== CGPA CALCULATOR (" + scale.getName().toUpperCase() + ") ===");
         System.out.print("How many courses? ");
         int numCourses = scanner.nextInt();
         scanner.nextLine(); // Consume newline
@@ -32,19 +33,19 @@ public class CgpaCalc {
             boolean gedsCourse = isGEDS.equals("yes") || isGEDS.equals("y");
             
             // Get grade based on marks
-            String grade = getGradeFromMarks(marks);
-            double gradePoint = convertGradeToPoint5Scale(grade);
+            int band = scale.band(marks);
+            double gradePoint = scale.points(band);
             
-            if (gradePoint >= 0) {
+            if (band != GradingScale.INVALID) {
                 totalGradePoints += gradePoint * creditHours;
                 totalCreditHours += creditHours;
                 
                 // Check if course is passed
-                boolean passed = checkIfPassed(grade, gedsCourse);
+                boolean passed = scale.isPassed(band, gedsCourse);
                 
                 System.out.printf("\nCourse: %s\n", courseName);
                 System.out.printf("Marks: %.1f\n", marks);
-                System.out.printf("Grade: %s (%.1f points on 5.0 scale)\n", grade, gradePoint);
+                System.out.printf("Grade: %s (%.1f points on %s)\n", scale.letter(band), gradePoint, scale.getName());
                 System.out.printf("Credit Hours: %.1f\n", creditHours);
                 System.out.printf("Status: %s\n", passed ? "PASSED" : "FAILED");
                 System.out.printf("Points Earned: %.2f\n\n", gradePoint * creditHours);
@@ -68,80 +69,61 @@ public class CgpaCalc {
             System.out.printf("Courses Failed: %d\n", failedCourses);
             System.out.printf("Total Credit Hours: %.2f\n", totalCreditHours);
             System.out.printf("Total Grade Points: %.2f\n", totalGradePoints);
-            System.out.printf("Your CGPA: %.2f / 5.00\n", cgpa);
-            System.out.printf("Percentage Equivalent: %.2f%%\n", (cgpa / 5.0) * 100);
+            System.out.printf("Your CGPA: %.2f / %.2f\n", cgpa, scale.getMaxPoints());
+            System.out.printf("Percentage Equivalent: %.2f%%\n", scale.toPercentage(cgpa));
             
             // Display grading scale
-            displayGradingScale5Scale();
+            displayGradingScale(scale);
             
             return cgpa;
         }
         return 0;
     }
     
-    // Method to convert marks to grade letter
+    // Method to convert marks to grade letter on the active scale
     public static String getGradeFromMarks(double marks) {
-        if (marks >= 80 && marks <= 100) {
-            return "A";
-        } else if (marks >= 60 && marks <= 79) {
-            return "B";
-        } else if (marks >= 50 && marks <= 59) {
-            return "C";
-        } else if (marks >= 45 && marks <= 49) {
-            return "D";
-        } else if (marks >= 40 && marks <= 44) {
-            return "E";
-        } else if (marks >= 0 && marks <= 39) {
-            return "F";
-        } else {
-            return "Invalid";
-        }
+        GradingScale scale = GradingScale.active();
+        return scale.letter(scale.band(marks));
     }
     
     // Method to convert grade letter to points (5.0 scale)
     public static double convertGradeToPoint5Scale(String grade) {
-        grade = grade.toUpperCase();
-        
-        switch (grade) {
-            case "A": return 5.0;  // A = 5.0 on 5.0 scale
-            case "B": return 4.0;  // B = 4.0 on 5.0 scale
-            case "C": return 3.0;  // C = 3.0 on 5.0 scale
-            case "D": return 2.0;  // D = 2.0 on 5.0 scale
-            case "E": return 1.0;  // E = 1.0 on 5.0 scale (you should confirm this)
-            case "F": return 0.0;  // F = 0.0 on 5.0 scale
-            default: return -1;    // Invalid grade
-        }
+        return Grade.fromLetter(grade).points();
+    }
+    
+    // Method to convert grade letter to points on the active scale
+    public static double convertGradeToPoints(String grade) {
+        GradingScale scale = GradingScale.active();
+        return scale.points(scale.bandOf(grade));
     }
     
-    // Method to check if course is passed
+    // Method to check if course is passed on the active scale
     public static boolean checkIfPassed(String grade, boolean isGEDSCourse) {
-        grade = grade.toUpperCase();
-        
-        if (isGEDSCourse) {
-            // For GEDS courses, passing grade is D or better
-            return grade.equals("A") || grade.equals("B") || 
-                   grade.equals("C") || grade.equals("D");
-        } else {
-            // For other courses, passing grade is C or better
-            return grade.equals("A") || grade.equals("B") || grade.equals("C");
-        }
+        // GEDS courses have a lower passing grade than other courses
+        GradingScale scale = GradingScale.active();
+        return scale.isPassed(scale.bandOf(grade), isGEDSCourse);
     }
     
     // Method to display grading scale for 5.0 scale
     public static void displayGradingScale5Scale() {
+        displayGradingScale(GradingScale.FIVE_POINT);
+    }
+    
+    // Method to display a grading scale
+    public static void displayGradingScale(GradingScale scale) {
         System.out.println("\n" + "=".repeat(50));
-        System.out.println("=== GRADING SCALE (5.0 SCALE) ===");
-        System.out.println("Marks   | Grade | Points (5.0 scale)");
+        System.out.println("=== GRADING SCALE (" + scale.getName().toUpperCase() + ") ===");
+        System.out.println("Marks   | Grade | Points (" + scale.getName() + ")");
         System.out.println("--------|-------|-------------------");
-        System.out.println("80-100  |   A   | 5.0 points");
-        System.out.println("60-79   |   B   | 4.0 points");
-        System.out.println("50-59   |   C   | 3.0 points");
-        System.out.println("45-49   |   D   | 2.0 points");
-        System.out.println("40-44   |   E   | 1.0 point");
-        System.out.println("0-39    |   F   | 0.0 points");
+        for (int band = 0; band < scale.getBandCount(); band++) {
+            System.out.printf("%-8s|   %-3s | %.1f %s%n", scale.describeRange(band), scale.letter(band),
+                scale.points(band), scale.points(band) == 1.0 ? "point" : "points");
+        }
         System.out.println("\n=== PASSING REQUIREMENTS ===");
-        System.out.println("GEDS Courses: Minimum D grade (2.0 points)");
-        System.out.println("Other Courses: Minimum C grade (3.0 points)");
+        System.out.printf("GEDS Courses: Minimum %s grade (%.1f points)%n",
+            scale.passingLetter(true), scale.passingPoints(true));
+        System.out.printf("Other Courses: Minimum %s grade (%.1f points)%n",
+            scale.passingLetter(false), scale.passingPoints(false));
         System.out.println("=".repeat(50));
     }
     
@@ -152,65 +134,56 @@ public class CgpaCalc {
     
     // Method to classify performance
     public static String classifyPerformance(double cgpa5Scale) {
-        if (cgpa5Scale >= 4.5) {
-            return "First Class with Distinction";
-        } else if (cgpa5Scale >= 4.0) {
-            return "First Class";
-        } else if (cgpa5Scale >= 3.5) {
-            return "Second Class Upper";
-        } else if (cgpa5Scale >= 3.0) {
-            return "Second Class Lower";
-        } else if (cgpa5Scale >= 2.0) {
-            return "Third Class";
-        } else if (cgpa5Scale >= 1.0) {
-            return "Pass";
-        } else {
-            return "Fail";
-        }
+        return Classification.of(cgpa5Scale).label();
+    }
+    
+    public static final int CLASSIFICATION_COUNT = Classification.COUNT;
+    
+    // Method to get a classification by its index (0 is best)
+    public static String getClassification(int index) {
+        return Classification.fromOrdinal(index).label();
+    }
+    
+    // Method to classify performance as an index, 0 being the best class
+    public static int classifyPerformanceIndex(double cgpa5Scale) {
+        return Classification.of(cgpa5Scale).ordinal();
     }
     
     public static void main(String[] args) {
+        try {
+            GradingScale.initFromSystemProperty();
+        } catch (java.io.IOException ex) {
+            System.err.println("Cannot load grading scale: " + ex.getMessage());
+            System.exit(2);
+        }
+        GradingScale scale = GradingScale.active();
+        
         System.out.println("╔══════════════════════════════════════════════════╗");
-        System.out.println("║      CGPA CALCULATOR (5.0 SCALE SYSTEM)          ║");
+        System.out.printf("║      CGPA CALCULATOR (%-27s║%n", scale.getName().toUpperCase() + " SYSTEM)");
         System.out.println("╚══════════════════════════════════════════════════╝");
         System.out.println("\nGrading System:");
-        System.out.println("• A: 80-100  = 5.0 points");
-        System.out.println("• B: 60-79   = 4.0 points");
-        System.out.println("• C: 50-59   = 3.0 points");
-        System.out.println("• D: 45-49   = 2.0 points");
-        System.out.println("• E: 40-44   = 1.0 point");
-        System.out.println("• F: 0-39    = 0.0 points");
+        for (int band = 0; band < scale.getBandCount(); band++) {
+            System.out.printf("• %s: %-7s = %.1f %s%n", scale.letter(band), scale.describeRange(band),
+                scale.points(band), scale.points(band) == 1.0 ? "point" : "points");
+        }
         System.out.println("\nPassing Requirements:");
-        System.out.println("• GEDS courses: Minimum D (2.0 points)");
-        System.out.println("• Other courses: Minimum C (3.0 points)");
+        System.out.printf("• GEDS courses: Minimum %s (%.1f points)%n", scale.passingLetter(true), scale.passingPoints(true));
+        System.out.printf("• Other courses: Minimum %s (%.1f points)%n", scale.passingLetter(false), scale.passingPoints(false));
         
         double cgpa = calculateCGPA();
+        double cgpa5Scale = scale.toFivePoint(cgpa);
         
         // Performance classification
         System.out.println("\n" + "═".repeat(50));
         System.out.println("=== PERFORMANCE CLASSIFICATION ===");
-        String classification = classifyPerformance(cgpa);
-        System.out.printf("CGPA: %.2f/5.00\n", cgpa);
-        System.out.printf("Percentage: %.2f%%\n", convertToPercentage(cgpa));
-        System.out.printf("Classification: %s\n", classification);
+        Classification classification = Classification.of(cgpa5Scale);
+        System.out.printf("CGPA: %.2f/%.2f\n", cgpa, scale.getMaxPoints());
+        System.out.printf("Percentage: %.2f%%\n", scale.toPercentage(cgpa));
+        System.out.printf("Classification: %s\n", classification.label());
         
         // Give some advice based on CGPA
         System.out.println("\n=== RECOMMENDATION ===");
-        if (cgpa >= 4.5) {
-            System.out.println("Outstanding performance! Keep up the excellent work!");
-        } else if (cgpa >= 4.0) {
-            System.out.println("Excellent performance! You're doing great!");
-        } else if (cgpa >= 3.5) {
-            System.out.println("Very good performance! Room for slight improvement.");
-        } else if (cgpa >= 3.0) {
-            System.out.println("Good performance. Focus on weak areas.");
-        } else if (cgpa >= 2.0) {
-            System.out.println("Satisfactory. Consider getting academic support.");
-        } else if (cgpa >= 1.0) {
-            System.out.println("Needs significant improvement. Seek academic counseling.");
-        } else {
-            System.out.println("Critical situation. Please meet with your academic advisor.");
-        }
+        System.out.println(classification.advice());
         System.out.println("═".repeat(50));
     }
 }
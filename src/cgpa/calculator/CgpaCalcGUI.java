@@ -2,16 +2,41 @@ package cgpa.calculator;
 
 import javax.swing.*;
 import javax.swing.border.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.filechooser.FileNameExtensionFilter;
 import javax.swing.table.DefaultTableModel;
 import javax.swing.table.DefaultTableCellRenderer;
 import javax.swing.table.TableCellRenderer;
+import javax.swing.table.TableColumn;
 import java.awt.*;
 import java.awt.event.*;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.LineNumberReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
 
 public class CgpaCalcGUI extends JFrame implements ActionListener {
     
     private static final long serialVersionUID = 1L;
+
+    private static final int CGPA_TAB = 1;
+    private static final int PLANNER_TAB = 2;
+    private static final int PREVIEW_DELAY_MS = 250;
+    private static final String DEFAULT_STUDENT = "STUDENT 1";
+
+    private static final Metrics.Counter COURSES_ADDED = Metrics.counter("gui.courses.added");
+    private static final Metrics.Counter COURSES_REJECTED = Metrics.counter("gui.courses.rejected");
+    private static final Metrics.Histogram COMPUTE_STATS_TIME = Metrics.histogram("gui.computeStats");
+    private static final Metrics.Histogram UPDATE_DISPLAY_TIME = Metrics.histogram("gui.updateDisplay");
     
     // Color palette
     private final Color PRIMARY_COLOR = new Color(41, 128, 185);    // Blue
@@ -25,89 +50,61 @@ public class CgpaCalcGUI extends JFrame implements ActionListener {
     private JTextField courseField, marksField, creditField;
     private JCheckBox gedsCheck;
     private JTable courseTable;
-    private DefaultTableModel courseTableModel;
-    private JButton addButton, calculateButton, clearButton;
+    private JButton addButton, calculateButton, clearButton, removeButton;
     private JLabel statsLabel;
     private JLabel totalCoursesValueLabel;
     private JLabel passedValueLabel;
     private JLabel failedValueLabel;
     private JLabel cgpaValueLabel;
+    private JLabel rankValueLabel;
     private JLabel summaryLabel;
     private JLabel statusLabel;
-    private JTextField semesterField, sessionField, semesterCgpaField;
+    private JTextField semesterField, sessionField, semesterCgpaField, semesterCreditsField;
     private JTable semesterTable;
     private DefaultTableModel semesterTableModel;
     private JButton addSemesterButton, clearSemestersButton;
     private JLabel semesterSummaryLabel;
+    private JMenuItem importMenuItem;
+    private transient ImportWorker importWorker;
+    private JLabel headerSubtitle;
+    private JPanel headerScalePanel;
+    private JLabel scaleTitleLabel;
+    private JPanel scaleGradesPanel;
+    private JLabel passingLabel, gedsLabel;
+    private JLabel semesterCgpaLabel;
+    private DefaultTableModel plannerTableModel;
+    private JTable plannerTable;
+    private JComboBox<Classification> plannerTargetCombo;
+    private JLabel plannerResultLabel;
+    private JLabel previewLabel;
+    private transient CourseRowSorter courseSorter;
+    private JComboBox<String> gradeFilterCombo, statusFilterCombo, gedsFilterCombo;
+    private JTextField minMarksFilterField, maxMarksFilterField;
+    // Set while the filter bar is reset or rebuilt, so it is applied once
+    private boolean updatingFilter;
+    private Timer previewTimer;
+    private boolean livePreview = true;
+    // Bumped for every preview started; stale results are dropped
+    private int previewGeneration;
     
-    // Data storage
-    private ArrayList<Course> courses = new ArrayList<>();
-    private ArrayList<SemesterRecord> semesters = new ArrayList<>();
+    // Data storage: every student open in the workspace has its own; the
+    // fields below point at the student on screen
+    private final transient Workspace workspace = new Workspace(this::updateUndoMenu);
+    private transient Workspace.StudentSession session = workspace.open(DEFAULT_STUDENT);
+    private CourseTableModel courses = session.courses;
+    private ArrayList<SemesterRecord> semesters = session.semesters;
+    private transient CumulativeCgpa cumulative = session.cumulative;
+    private transient Stats stats = session.stats;
+    private transient UndoLog undoLog = session.undoLog;
+    private DefaultListModel<String> studentListModel;
+    private JList<String> studentList;
+    private JTextField studentSearchField;
+    // Set while the student list is refilled, so selection events are ignored
+    private boolean updatingStudentList;
+    private JMenuItem undoMenuItem, redoMenuItem;
     
-    // Inner class for course
-    class Course {
-        String name;
-        double marks;
-        double credits;
-        boolean isGEDS;
-        String grade;
-        double points;
-        
-        Course(String name, double marks, double credits, boolean isGEDS) {
-            this.name = name;
-            this.marks = marks;
-            this.credits = credits;
-            this.isGEDS = isGEDS;
-            calculateGrade();
-        }
-        
-        void calculateGrade() {
-            if (marks >= 80 && marks <= 100) {
-                grade = "A";
-                points = 5.0;
-            } else if (marks >= 60 && marks < 80) {
-                grade = "B";
-                points = 4.0;
-            } else if (marks >= 50 && marks < 60) {
-                grade = "C";
-                points = 3.0;
-            } else if (marks >= 45 && marks < 50) {
-                grade = "D";
-                points = 2.0;
-            } else if (marks >= 40 && marks < 45) {
-                grade = "E";
-                points = 1.0;
-            } else if (marks >= 0 && marks < 40) {
-                grade = "F";
-                points = 0.0;
-            } else {
-                grade = "Invalid";
-                points = -1;
-            }
-        }
-        
-        boolean isPassed() {
-            if (isGEDS) {
-                return points >= 2.0;
-            } else {
-                return points >= 3.0;
-            }
-        }
-        
-        Color getGradeColor() {
-            switch(grade) {
-                case "A": return new Color(46, 204, 113);  // Green
-                case "B": return new Color(52, 152, 219);  // Blue
-                case "C": return new Color(155, 89, 182);  // Purple
-                case "D": return new Color(241, 196, 15);  // Yellow
-                case "E": return new Color(230, 126, 34);  // Orange
-                case "F": return ACCENT_COLOR;             // Red
-                default: return Color.GRAY;
-            }
-        }
-    }
-
-    private static class Stats {
+    // Running aggregate over the course list, updated in O(1) per add/remove
+    static class Stats {
         int total;
         int passed;
         int failed;
@@ -115,28 +112,175 @@ public class CgpaCalcGUI extends JFrame implements ActionListener {
         double totalCredits;
         double cgpa;
         double percentage;
+        double maxPoints = GradingScale.active().getMaxPoints();
         double highestMark;
         double lowestMark;
         String easiestCourse;
         String hardestCourse;
 
+        // First row holding each extreme
+        private int easiestRow;
+        private int hardestRow;
+
         Stats() {
+            reset();
+        }
+
+        void reset() {
+            total = 0;
+            passed = 0;
+            failed = 0;
+            totalPoints = 0;
+            totalCredits = 0;
+            cgpa = 0;
+            percentage = 0;
+            resetExtremes();
+        }
+
+        private void resetExtremes() {
             highestMark = -1;
             lowestMark = 101;
             easiestCourse = "";
             hardestCourse = "";
+            easiestRow = -1;
+            hardestRow = -1;
+        }
+
+        // Method to add the course just inserted at row; later rows have moved down
+        void insert(CourseTableModel courses, int row) {
+            if (easiestRow >= row) {
+                easiestRow++;
+            }
+            if (hardestRow >= row) {
+                hardestRow++;
+            }
+            double marks = courses.getMarks(row);
+            boolean firstHighest = marks == highestMark && row < easiestRow;
+            boolean firstLowest = marks == lowestMark && row < hardestRow;
+            add(courses, row);
+            if (firstHighest) {
+                easiestRow = row;
+                easiestCourse = courses.getName(row);
+            }
+            if (firstLowest) {
+                hardestRow = row;
+                hardestCourse = courses.getName(row);
+            }
+        }
+
+        // Method to drop every course from row newSize on; call before the rows
+        // are deleted. The kept rows are only rescanned when an extreme went.
+        void truncate(CourseTableModel courses, int newSize) {
+            if (newSize == 0) {
+                reset();
+                return;
+            }
+            for (int row = newSize; row < courses.size(); row++) {
+                total--;
+                totalPoints -= courses.getPoints(row) * courses.getCredits(row);
+                totalCredits -= courses.getCredits(row);
+                if (courses.isPassed(row)) {
+                    passed--;
+                } else {
+                    failed--;
+                }
+            }
+            if (easiestRow >= newSize || hardestRow >= newSize) {
+                resetExtremes();
+                for (int row = 0; row < newSize; row++) {
+                    trackExtremes(courses, row);
+                }
+            }
+            updateAverages();
+        }
+
+        // Method to add the course at row, which must be the last row
+        void add(CourseTableModel courses, int row) {
+            maxPoints = courses.getScale().getMaxPoints();
+            total++;
+            totalPoints += courses.getPoints(row) * courses.getCredits(row);
+            totalCredits += courses.getCredits(row);
+            if (courses.isPassed(row)) {
+                passed++;
+            } else {
+                failed++;
+            }
+            trackExtremes(courses, row);
+            updateAverages();
+        }
+
+        // Method to remove the course at row; call before the row is deleted.
+        // The other rows are only rescanned when the removed row held an extreme.
+        void remove(CourseTableModel courses, int row) {
+            total--;
+            if (total == 0) {
+                reset();
+                return;
+            }
+            totalPoints -= courses.getPoints(row) * courses.getCredits(row);
+            totalCredits -= courses.getCredits(row);
+            if (courses.isPassed(row)) {
+                passed--;
+            } else {
+                failed--;
+            }
+            if (row == easiestRow || row == hardestRow) {
+                resetExtremes();
+                for (int i = 0; i < courses.size(); i++) {
+                    if (i != row) {
+                        trackExtremes(i < row ? i : i - 1, courses.getName(i), courses.getMarks(i));
+                    }
+                }
+            } else {
+                if (easiestRow > row) {
+                    easiestRow--;
+                }
+                if (hardestRow > row) {
+                    hardestRow--;
+                }
+            }
+            updateAverages();
+        }
+
+        private void trackExtremes(CourseTableModel courses, int row) {
+            trackExtremes(row, courses.getName(row), courses.getMarks(row));
+        }
+
+        private void trackExtremes(int row, String name, double marks) {
+            if (marks > highestMark) {
+                highestMark = marks;
+                easiestCourse = name;
+                easiestRow = row;
+            }
+            if (marks < lowestMark) {
+                lowestMark = marks;
+                hardestCourse = name;
+                hardestRow = row;
+            }
+        }
+
+        private void updateAverages() {
+            if (totalCredits > 0) {
+                cgpa = totalPoints / totalCredits;
+                percentage = cgpa / maxPoints * 100;
+            } else {
+                cgpa = 0;
+                percentage = 0;
+            }
         }
     }
 
-    private static class SemesterRecord {
+    static class SemesterRecord {
         final String semester;
         final String session;
         final double cgpa;
+        final double credits;
 
-        SemesterRecord(String semester, String session, double cgpa) {
+        SemesterRecord(String semester, String session, double cgpa, double credits) {
             this.semester = semester;
             this.session = session;
             this.cgpa = cgpa;
+            this.credits = credits;
         }
     }
     
@@ -147,7 +291,7 @@ public class CgpaCalcGUI extends JFrame implements ActionListener {
     }
     
     private void setupWindow() {
-        setTitle("CGPA Calculator Pro - 5.0 Scale");
+        setTitle("CGPA Calculator Pro - " + courses.getScale().getName());
         setSize(1080, 720);
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         setLocationRelativeTo(null);
@@ -170,10 +314,97 @@ public class CgpaCalcGUI extends JFrame implements ActionListener {
         JTabbedPane tabs = new JTabbedPane();
         tabs.setFont(new Font("Segoe UI", Font.PLAIN, 13));
         tabs.addTab("GPA Calculator", createGpaTab());
-        tabs.addTab("CGPA Tracker", createCgpaTab());
+        // The other tabs are only built when first opened, to get the window up sooner
+        tabs.addTab("CGPA Tracker", new JPanel());
+        tabs.addTab("Target Planner", new JPanel());
+        tabs.addChangeListener(e -> {
+            if (tabs.getSelectedIndex() == CGPA_TAB && semesterTableModel == null) {
+                tabs.setComponentAt(CGPA_TAB, createCgpaTab());
+                updateSemesterDisplay();
+            } else if (tabs.getSelectedIndex() == PLANNER_TAB && plannerTableModel == null) {
+                tabs.setComponentAt(PLANNER_TAB, createPlannerTab());
+                updatePlanner();
+            }
+        });
         mainPanel.add(tabs, BorderLayout.CENTER);
+        mainPanel.add(createStudentPanel(), BorderLayout.WEST);
         
         add(mainPanel);
+        setJMenuBar(createMenuBar());
+        updateScaleLabels();
+    }
+
+    private JMenuBar createMenuBar() {
+        JMenuBar menuBar = new JMenuBar();
+        JMenu fileMenu = new JMenu("File");
+        fileMenu.setMnemonic(KeyEvent.VK_F);
+
+        JMenuItem cohortItem = new JMenuItem("Open Cohort...");
+        cohortItem.addActionListener(e -> openCohort());
+        fileMenu.add(cohortItem);
+
+        importMenuItem = new JMenuItem("Import Transcript...");
+        importMenuItem.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_I, InputEvent.CTRL_DOWN_MASK));
+        importMenuItem.addActionListener(e -> importTranscript());
+        fileMenu.add(importMenuItem);
+
+        fileMenu.addSeparator();
+        JMenuItem openItem = new JMenuItem("Open Session...");
+        openItem.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_O, InputEvent.CTRL_DOWN_MASK));
+        openItem.addActionListener(e -> openSession());
+        fileMenu.add(openItem);
+
+        JMenuItem saveItem = new JMenuItem("Save Session...");
+        saveItem.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_S, InputEvent.CTRL_DOWN_MASK));
+        saveItem.addActionListener(e -> saveSession());
+        fileMenu.add(saveItem);
+
+        fileMenu.addSeparator();
+        JMenuItem exitItem = new JMenuItem("Exit");
+        exitItem.addActionListener(e -> dispose());
+        fileMenu.add(exitItem);
+
+        menuBar.add(fileMenu);
+
+        JMenu editMenu = new JMenu("Edit");
+        editMenu.setMnemonic(KeyEvent.VK_E);
+        undoMenuItem = new JMenuItem("Undo");
+        undoMenuItem.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_Z, InputEvent.CTRL_DOWN_MASK));
+        undoMenuItem.addActionListener(e -> undo());
+        editMenu.add(undoMenuItem);
+        redoMenuItem = new JMenuItem("Redo");
+        redoMenuItem.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_Y, InputEvent.CTRL_DOWN_MASK));
+        redoMenuItem.addActionListener(e -> redo());
+        editMenu.add(redoMenuItem);
+        menuBar.add(editMenu);
+        updateUndoMenu();
+
+        JMenu scaleMenu = new JMenu("Scale");
+        scaleMenu.setMnemonic(KeyEvent.VK_G);
+        ButtonGroup scaleGroup = new ButtonGroup();
+        for (GradingScale scale : GradingScale.builtIns()) {
+            JRadioButtonMenuItem scaleItem = new JRadioButtonMenuItem(scale.getName());
+            scaleItem.setSelected(scale.getName().equals(courses.getScale().getName()));
+            scaleItem.addActionListener(e -> applyScale(scale));
+            scaleGroup.add(scaleItem);
+            scaleMenu.add(scaleItem);
+        }
+        scaleMenu.addSeparator();
+        JMenuItem loadScaleItem = new JMenuItem("Load Scale...");
+        loadScaleItem.addActionListener(e -> loadScale(scaleGroup));
+        scaleMenu.add(loadScaleItem);
+        menuBar.add(scaleMenu);
+
+        JMenu viewMenu = new JMenu("View");
+        viewMenu.setMnemonic(KeyEvent.VK_V);
+        JCheckBoxMenuItem previewItem = new JCheckBoxMenuItem("Live Preview", livePreview);
+        previewItem.addActionListener(e -> {
+            livePreview = previewItem.isSelected();
+            schedulePreview();
+        });
+        viewMenu.add(previewItem);
+        menuBar.add(viewMenu);
+        return menuBar;
     }
     
     private JPanel createHeaderPanel() {
@@ -191,37 +422,97 @@ public class CgpaCalcGUI extends JFrame implements ActionListener {
         title.setForeground(Color.WHITE);
         title.setAlignmentX(Component.LEFT_ALIGNMENT);
 
-        JLabel subtitle = new JLabel("5.0 Scale Grading System");
-        subtitle.setFont(new Font("Segoe UI", Font.PLAIN, 13));
-        subtitle.setForeground(new Color(236, 240, 241));
-        subtitle.setAlignmentX(Component.LEFT_ALIGNMENT);
+        headerSubtitle = new JLabel();
+        headerSubtitle.setFont(new Font("Segoe UI", Font.PLAIN, 13));
+        headerSubtitle.setForeground(new Color(236, 240, 241));
+        headerSubtitle.setAlignmentX(Component.LEFT_ALIGNMENT);
 
         titlePanel.add(title);
         titlePanel.add(Box.createRigidArea(new Dimension(0, 4)));
-        titlePanel.add(subtitle);
+        titlePanel.add(headerSubtitle);
 
-        // Right: grade scale indicator
-        JPanel scalePanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 8, 0));
-        scalePanel.setOpaque(false);
-        
-        String[] grades = {"A", "B", "C", "D", "E", "F"};
-        String[] ranges = {"80-100", "60-79", "50-59", "45-49", "40-44", "0-39"};
+        // Right: grade scale indicator, filled in by updateScaleLabels()
+        headerScalePanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 8, 0));
+        headerScalePanel.setOpaque(false);
+
+        header.add(titlePanel, BorderLayout.WEST);
+        header.add(headerScalePanel, BorderLayout.EAST);
         
-        for (int i = 0; i < grades.length; i++) {
-            JLabel gradeLabel = new JLabel(grades[i] + " " + ranges[i]);
+        return header;
+    }
+
+    // Method to show the active grading scale in the title, header and scale card
+    private void updateScaleLabels() {
+        GradingScale scale = courses.getScale();
+        rebuildGradeFilter();
+        applyFilter();
+        setTitle("CGPA Calculator Pro - " + scale.getName());
+        headerSubtitle.setText(scale.getName() + " Grading System");
+
+        headerScalePanel.removeAll();
+        for (int band = 0; band < scale.getBandCount(); band++) {
+            JLabel gradeLabel = new JLabel(scale.letter(band) + " " + scale.describeRange(band));
             gradeLabel.setFont(new Font("Segoe UI", Font.BOLD, 10));
             gradeLabel.setForeground(Color.WHITE);
             gradeLabel.setBorder(BorderFactory.createEmptyBorder(4, 8, 4, 8));
             gradeLabel.setOpaque(true);
             gradeLabel.setBackground(new Color(255, 255, 255, 30));
             gradeLabel.setBorder(BorderFactory.createLineBorder(new Color(255, 255, 255, 50), 1));
-            scalePanel.add(gradeLabel);
+            headerScalePanel.add(gradeLabel);
         }
+        headerScalePanel.revalidate();
+        headerScalePanel.repaint();
 
-        header.add(titlePanel, BorderLayout.WEST);
-        header.add(scalePanel, BorderLayout.EAST);
-        
-        return header;
+        scaleTitleLabel.setText("Grading Scale (" + formatOneDecimal(scale.getMaxPoints()) + ")");
+        scaleGradesPanel.removeAll();
+        for (int band = 0; band < scale.getBandCount(); band++) {
+            JLabel gradeLabel = new JLabel(scale.letter(band) + ": " + formatOneDecimal(scale.points(band)));
+            gradeLabel.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+            gradeLabel.setForeground(new Color(100, 100, 100));
+            gradeLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+            scaleGradesPanel.add(gradeLabel);
+        }
+        scaleGradesPanel.revalidate();
+        passingLabel.setText("Passing: " + scale.passingLetter(false)
+            + " (" + formatOneDecimal(scale.passingPoints(false)) + ") for regular");
+        gedsLabel.setText("GEDS: " + scale.passingLetter(true)
+            + " (" + formatOneDecimal(scale.passingPoints(true)) + ") minimum");
+        if (semesterCgpaLabel != null) {
+            semesterCgpaLabel.setText("Semester CGPA (0-" + formatMaxPoints(scale) + ")");
+        }
+    }
+
+    // Method to switch grading scale, regrading every course
+    private void applyScale(GradingScale scale) {
+        GradingScale.setActive(scale);
+        courses.setScale(scale);
+        computeStats(courses, stats);
+        updateScaleLabels();
+        adjustTableColumnWidths(0, courses.size() - 1);
+        updateDisplay();
+        updateSemesterSummary();
+        setStatus("Grading scale: " + scale.getName(), new Color(120, 120, 120));
+    }
+
+    private void loadScale(ButtonGroup group) {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setDialogTitle("Load Grading Scale");
+        chooser.setFileFilter(new FileNameExtensionFilter("Grading scale (*.properties)", "properties"));
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        try {
+            GradingScale scale = GradingScale.load(chooser.getSelectedFile().toPath());
+            group.clearSelection();
+            applyScale(scale);
+        } catch (IOException ex) {
+            showStyledMessage("Could not load grading scale: " + ex.getMessage(), "Load Failed", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    private static String formatMaxPoints(GradingScale scale) {
+        double max = scale.getMaxPoints();
+        return max == Math.rint(max) ? String.valueOf((long) max) : formatOneDecimal(max);
     }
 
     private JPanel createGpaTab() {
@@ -264,7 +555,7 @@ public class CgpaCalcGUI extends JFrame implements ActionListener {
         title.setAlignmentX(Component.LEFT_ALIGNMENT);
         formPanel.add(title);
         
-        JLabel subtitle = new JLabel("Add each semester's CGPA to compute cumulative CGPA");
+        JLabel subtitle = new JLabel("Add each semester's CGPA and credits to compute cumulative CGPA");
         subtitle.setFont(new Font("Segoe UI", Font.PLAIN, 12));
         subtitle.setForeground(new Color(120, 120, 120));
         subtitle.setAlignmentX(Component.LEFT_ALIGNMENT);
@@ -275,7 +566,12 @@ public class CgpaCalcGUI extends JFrame implements ActionListener {
         formPanel.add(Box.createRigidArea(new Dimension(0, 10)));
         formPanel.add(createFormField("Session (e.g. 2023/2024)", sessionField = new JTextField(12)));
         formPanel.add(Box.createRigidArea(new Dimension(0, 10)));
-        formPanel.add(createFormField("Semester CGPA (0-5)", semesterCgpaField = new JTextField(8)));
+        JPanel cgpaField = createFormField("Semester CGPA (0-" + formatMaxPoints(courses.getScale()) + ")",
+            semesterCgpaField = new JTextField(8));
+        semesterCgpaLabel = (JLabel) cgpaField.getComponent(0);
+        formPanel.add(cgpaField);
+        formPanel.add(Box.createRigidArea(new Dimension(0, 10)));
+        formPanel.add(createFormField("Semester Credits", semesterCreditsField = new JTextField(8)));
         formPanel.add(Box.createRigidArea(new Dimension(0, 12)));
 
         JPanel actions = new JPanel(new FlowLayout(FlowLayout.LEFT, 10, 0));
@@ -304,7 +600,7 @@ public class CgpaCalcGUI extends JFrame implements ActionListener {
         listTitle.setForeground(TEXT_COLOR);
         tablePanel.add(listTitle, BorderLayout.NORTH);
 
-        String[] columns = {"No.", "Semester", "Session", "CGPA"};
+        String[] columns = {"No.", "Semester", "Session", "CGPA", "Credits", "Cumulative"};
         semesterTableModel = new DefaultTableModel(columns, 0) {
             @Override
             public boolean isCellEditable(int row, int column) {
@@ -340,6 +636,159 @@ public class CgpaCalcGUI extends JFrame implements ActionListener {
         return tab;
     }
     
+    private JPanel createPlannerTab() {
+        JPanel tab = new JPanel(new BorderLayout(10, 10));
+        tab.setBackground(BACKGROUND_COLOR);
+
+        JPanel formPanel = new JPanel();
+        formPanel.setLayout(new BoxLayout(formPanel, BoxLayout.Y_AXIS));
+        formPanel.setBackground(CARD_COLOR);
+        formPanel.setPreferredSize(new Dimension(420, 0));
+        formPanel.setBorder(BorderFactory.createCompoundBorder(
+            BorderFactory.createLineBorder(new Color(220, 220, 220), 1),
+            BorderFactory.createEmptyBorder(18, 18, 18, 18)
+        ));
+
+        JLabel title = new JLabel("TARGET PLANNER");
+        title.setFont(new Font("Segoe UI", Font.BOLD, 16));
+        title.setForeground(TEXT_COLOR);
+        title.setAlignmentX(Component.LEFT_ALIGNMENT);
+        formPanel.add(title);
+
+        JLabel subtitle = new JLabel("List your remaining courses to see the grades you need");
+        subtitle.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        subtitle.setForeground(new Color(120, 120, 120));
+        subtitle.setAlignmentX(Component.LEFT_ALIGNMENT);
+        formPanel.add(subtitle);
+        formPanel.add(Box.createRigidArea(new Dimension(0, 16)));
+
+        JLabel targetLabel = new JLabel("Target Classification");
+        targetLabel.setFont(new Font("Segoe UI", Font.BOLD, 13));
+        targetLabel.setForeground(new Color(100, 100, 100));
+        targetLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        formPanel.add(targetLabel);
+        formPanel.add(Box.createRigidArea(new Dimension(0, 5)));
+
+        plannerTargetCombo = new JComboBox<>();
+        for (Classification classification : Classification.values()) {
+            if (classification != Classification.FAIL) {
+                plannerTargetCombo.addItem(classification);
+            }
+        }
+        plannerTargetCombo.setSelectedItem(Classification.FIRST_CLASS);
+        plannerTargetCombo.setFont(new Font("Segoe UI", Font.PLAIN, 13));
+        plannerTargetCombo.setMaximumSize(new Dimension(Integer.MAX_VALUE, 34));
+        plannerTargetCombo.setAlignmentX(Component.LEFT_ALIGNMENT);
+        plannerTargetCombo.addActionListener(e -> updatePlanner());
+        formPanel.add(plannerTargetCombo);
+        formPanel.add(Box.createRigidArea(new Dimension(0, 14)));
+
+        String[] columns = {"Course", "Credits", "GEDS"};
+        plannerTableModel = new DefaultTableModel(columns, 0) {
+            @Override
+            public Class<?> getColumnClass(int column) {
+                return column == 2 ? Boolean.class : column == 1 ? Double.class : String.class;
+            }
+        };
+        plannerTableModel.addTableModelListener(e -> updatePlanner());
+        plannerTable = new JTable(plannerTableModel);
+        plannerTable.setRowHeight(26);
+        plannerTable.setFont(new Font("Segoe UI", Font.PLAIN, 13));
+        plannerTable.getTableHeader().setFont(new Font("Segoe UI", Font.BOLD, 12));
+        JScrollPane plannerScroll = new JScrollPane(plannerTable);
+        plannerScroll.setBorder(BorderFactory.createLineBorder(new Color(240, 240, 240), 1));
+        plannerScroll.setAlignmentX(Component.LEFT_ALIGNMENT);
+        formPanel.add(plannerScroll);
+        formPanel.add(Box.createRigidArea(new Dimension(0, 12)));
+
+        JPanel actions = new JPanel(new FlowLayout(FlowLayout.LEFT, 10, 0));
+        actions.setBackground(CARD_COLOR);
+        JButton addPlannedButton = createStyledButton("Add Course", PRIMARY_COLOR);
+        JButton removePlannedButton = createStyledButton("Remove Course", ACCENT_COLOR);
+        addPlannedButton.setPreferredSize(new Dimension(140, 40));
+        removePlannedButton.setPreferredSize(new Dimension(150, 40));
+        addPlannedButton.addActionListener(e ->
+            plannerTableModel.addRow(new Object[] {"COURSE " + (plannerTableModel.getRowCount() + 1), 3.0, Boolean.FALSE}));
+        removePlannedButton.addActionListener(e -> {
+            int row = plannerTable.getSelectedRow();
+            if (row >= 0) {
+                if (plannerTable.isEditing()) {
+                    plannerTable.getCellEditor().cancelCellEditing();
+                }
+                plannerTableModel.removeRow(row);
+            }
+        });
+        actions.add(addPlannedButton);
+        actions.add(removePlannedButton);
+        actions.setAlignmentX(Component.LEFT_ALIGNMENT);
+        formPanel.add(actions);
+
+        JPanel resultPanel = new JPanel(new BorderLayout(8, 8));
+        resultPanel.setBackground(CARD_COLOR);
+        resultPanel.setBorder(BorderFactory.createCompoundBorder(
+            BorderFactory.createLineBorder(new Color(220, 220, 220), 1),
+            BorderFactory.createEmptyBorder(12, 12, 12, 12)
+        ));
+        JLabel resultTitle = new JLabel("GRADES NEEDED");
+        resultTitle.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        resultTitle.setForeground(TEXT_COLOR);
+        resultPanel.add(resultTitle, BorderLayout.NORTH);
+        plannerResultLabel = new JLabel();
+        plannerResultLabel.setFont(new Font("Segoe UI", Font.PLAIN, 13));
+        plannerResultLabel.setVerticalAlignment(SwingConstants.TOP);
+        resultPanel.add(new JScrollPane(plannerResultLabel), BorderLayout.CENTER);
+
+        JPanel topPanel = new JPanel(new BorderLayout(10, 10));
+        topPanel.setBackground(BACKGROUND_COLOR);
+        topPanel.add(formPanel, BorderLayout.WEST);
+        topPanel.add(resultPanel, BorderLayout.CENTER);
+
+        tab.add(topPanel, BorderLayout.CENTER);
+        return tab;
+    }
+
+    // Method to re-solve the planner for the current courses and planned courses
+    private void updatePlanner() {
+        if (plannerTableModel == null) {
+            return;
+        }
+        GradingScale scale = courses.getScale();
+        Classification target = (Classification) plannerTargetCombo.getSelectedItem();
+        double targetCgpa = scale.fromFivePoint(target.minCgpa());
+
+        int count = plannerTableModel.getRowCount();
+        TargetGpaSolver.PlannedCourse[] planned = new TargetGpaSolver.PlannedCourse[count];
+        for (int row = 0; row < count; row++) {
+            Object credits = plannerTableModel.getValueAt(row, 1);
+            double value = credits instanceof Number ? ((Number) credits).doubleValue() : Double.NaN;
+            if (!(value > 0 && isValidCredits(value))) {
+                plannerResultLabel.setText("<html>Row " + (row + 1) + ": credits must be between 0 and 10.</html>");
+                return;
+            }
+            planned[row] = new TargetGpaSolver.PlannedCourse(value, Boolean.TRUE.equals(plannerTableModel.getValueAt(row, 2)));
+        }
+
+        TargetGpaSolver.Plan plan = TargetGpaSolver.solve(scale, stats.totalPoints, stats.totalCredits, planned, targetCgpa);
+        StringBuilder html = new StringBuilder("<html><div style='font-family: Segoe UI;'>");
+        html.append(String.format("Current GPA: %.2f over %.1f credits<br>", stats.cgpa, stats.totalCredits));
+        html.append(String.format("Target: %s (%.2f/%.2f)<br><br>", target.label(), targetCgpa, scale.getMaxPoints()));
+        if (count == 0) {
+            html.append("Add the courses you still have to take.");
+        } else if (!plan.feasible) {
+            html.append("<b>Out of reach.</b> Even the top grade in every planned course ");
+            html.append(String.format("only reaches %.2f.", plan.projectedCgpa));
+        } else {
+            for (int row = 0; row < count; row++) {
+                int band = plan.bands[row];
+                html.append("<b>").append(plannerTableModel.getValueAt(row, 0)).append("</b>: ");
+                html.append(scale.letter(band)).append(" (at least ");
+                html.append(formatOneDecimal(scale.minMarks(band))).append(" marks)<br>");
+            }
+            html.append(String.format("<br>Projected CGPA: %.2f", plan.projectedCgpa));
+        }
+        plannerResultLabel.setText(html.append("</div></html>").toString());
+    }
+
     private JComponent createInputPanel() {
         JPanel panel = new JPanel();
         panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
@@ -384,6 +833,43 @@ public class CgpaCalcGUI extends JFrame implements ActionListener {
 
         creditField.addActionListener(e -> addCourse());
 
+        // Live preview of the GPA with the course being typed, coalesced so a
+        // burst of keystrokes triggers one recomputation
+        previewLabel = new JLabel(" ");
+        previewLabel.setFont(new Font("Segoe UI", Font.BOLD, 12));
+        previewLabel.setForeground(PRIMARY_COLOR);
+        previewLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        panel.add(Box.createRigidArea(new Dimension(0, 10)));
+        panel.add(previewLabel);
+        previewTimer = new Timer(PREVIEW_DELAY_MS, e -> startPreview());
+        previewTimer.setRepeats(false);
+        DocumentListener previewListener = new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                schedulePreview();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                schedulePreview();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                schedulePreview();
+            }
+        };
+        courseField.getDocument().addDocumentListener(previewListener);
+        marksField.getDocument().addDocumentListener(previewListener);
+        creditField.getDocument().addDocumentListener(previewListener);
+        gedsCheck.addItemListener(e -> schedulePreview());
+        courseField.addFocusListener(new FocusAdapter() {
+            @Override
+            public void focusLost(FocusEvent e) {
+                fillFromCatalog();
+            }
+        });
+
         statusLabel = new JLabel(" ");
         statusLabel.setFont(new Font("Segoe UI", Font.PLAIN, 12));
         statusLabel.setForeground(new Color(120, 120, 120));
@@ -484,17 +970,18 @@ public class CgpaCalcGUI extends JFrame implements ActionListener {
         header.add(title, BorderLayout.WEST);
         header.add(statsLabel, BorderLayout.EAST);
 
-        panel.add(header, BorderLayout.NORTH);
+        JPanel top = new JPanel(new BorderLayout(0, 8));
+        top.setOpaque(false);
+        top.add(header, BorderLayout.NORTH);
+        top.add(createFilterBar(), BorderLayout.SOUTH);
+        panel.add(top, BorderLayout.NORTH);
 
         // Table
-        String[] columns = {"No.", "Course", "Marks", "Credits", "Grade", "Points", "Status", "GEDS"};
-        courseTableModel = new DefaultTableModel(columns, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
-        courseTable = new JTable(courseTableModel);
+        courseTable = new JTable(courses);
+        // Keep columns and renderers when switching to another student's model
+        courseTable.setAutoCreateColumnsFromModel(false);
+        courseSorter = new CourseRowSorter(courses);
+        courseTable.setRowSorter(courseSorter);
         courseTable.setRowHeight(28);
         courseTable.setShowGrid(true);
         courseTable.setShowVerticalLines(true);
@@ -508,12 +995,12 @@ public class CgpaCalcGUI extends JFrame implements ActionListener {
         courseTable.getTableHeader().setForeground(new Color(80, 80, 80));
         courseTable.setAutoResizeMode(JTable.AUTO_RESIZE_OFF);
 
-        DefaultTableCellRenderer cellRenderer = new DefaultTableCellRenderer();
+        DefaultTableCellRenderer cellRenderer = new CourseCellRenderer();
         cellRenderer.setBorder(new EmptyBorder(0, 6, 0, 6));
         for (int i = 0; i < courseTable.getColumnCount(); i++) {
             courseTable.getColumnModel().getColumn(i).setCellRenderer(cellRenderer);
         }
-        adjustTableColumnWidths();
+        adjustTableColumnWidths(0, -1);
 
         JScrollPane scrollPane = new JScrollPane(courseTable);
         scrollPane.setBorder(BorderFactory.createLineBorder(new Color(240, 240, 240), 1));
@@ -562,6 +1049,9 @@ public class CgpaCalcGUI extends JFrame implements ActionListener {
         panel.add(Box.createRigidArea(new Dimension(0, 10)));
         cgpaValueLabel = new JLabel("0.00");
         panel.add(createStatCard("Current CGPA", cgpaValueLabel, new Color(155, 89, 182)));
+        panel.add(Box.createRigidArea(new Dimension(0, 10)));
+        rankValueLabel = new JLabel("-");
+        panel.add(createStatCard("Class Rank", rankValueLabel, new Color(230, 126, 34)));
         
         panel.add(Box.createVerticalGlue());
         
@@ -574,31 +1064,28 @@ public class CgpaCalcGUI extends JFrame implements ActionListener {
             BorderFactory.createEmptyBorder(15, 15, 15, 15)
         ));
         
-        JLabel scaleTitle = new JLabel("Grading Scale (5.0)");
-        scaleTitle.setFont(new Font("Segoe UI", Font.BOLD, 14));
-        scaleTitle.setForeground(new Color(41, 128, 185));
-        scaleTitle.setAlignmentX(Component.LEFT_ALIGNMENT);
-        scaleCard.add(scaleTitle);
+        scaleTitleLabel = new JLabel();
+        scaleTitleLabel.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        scaleTitleLabel.setForeground(new Color(41, 128, 185));
+        scaleTitleLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        scaleCard.add(scaleTitleLabel);
         scaleCard.add(Box.createRigidArea(new Dimension(0, 10)));
         
-        String[] grades = {"A: 5.0", "B: 4.0", "C: 3.0", "D: 2.0", "E: 1.0", "F: 0.0"};
-        for (String grade : grades) {
-            JLabel gradeLabel = new JLabel(grade);
-            gradeLabel.setFont(new Font("Segoe UI", Font.PLAIN, 12));
-            gradeLabel.setForeground(new Color(100, 100, 100));
-            gradeLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
-            scaleCard.add(gradeLabel);
-        }
+        scaleGradesPanel = new JPanel();
+        scaleGradesPanel.setLayout(new BoxLayout(scaleGradesPanel, BoxLayout.Y_AXIS));
+        scaleGradesPanel.setOpaque(false);
+        scaleGradesPanel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        scaleCard.add(scaleGradesPanel);
         
         scaleCard.add(Box.createRigidArea(new Dimension(0, 10)));
         
-        JLabel passingLabel = new JLabel("Passing: C (3.0) for regular");
+        passingLabel = new JLabel();
         passingLabel.setFont(new Font("Segoe UI", Font.PLAIN, 11));
         passingLabel.setForeground(new Color(150, 150, 150));
         passingLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
         scaleCard.add(passingLabel);
         
-        JLabel gedsLabel = new JLabel("GEDS: D (2.0) minimum");
+        gedsLabel = new JLabel();
         gedsLabel.setFont(new Font("Segoe UI", Font.PLAIN, 11));
         gedsLabel.setForeground(new Color(150, 150, 150));
         gedsLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
@@ -658,7 +1145,13 @@ public class CgpaCalcGUI extends JFrame implements ActionListener {
         clearButton.addActionListener(this);
         clearButton.setEnabled(false);
         
+        // Remove button
+        removeButton = createStyledButton("Remove Selected", PRIMARY_COLOR);
+        removeButton.addActionListener(this);
+        removeButton.setEnabled(false);
+        
         panel.add(calculateButton);
+        panel.add(removeButton);
         panel.add(clearButton);
         
         return panel;
@@ -672,6 +1165,8 @@ public class CgpaCalcGUI extends JFrame implements ActionListener {
             calculateCGPA();
         } else if (e.getSource() == clearButton) {
             clearAll();
+        } else if (e.getSource() == removeButton) {
+            removeSelectedCourse();
         }
     }
     
@@ -686,45 +1181,56 @@ public class CgpaCalcGUI extends JFrame implements ActionListener {
             if (name.isEmpty()) {
                 showStyledMessage("Please enter a course name", "Input Required", JOptionPane.WARNING_MESSAGE);
                 courseField.requestFocus();
-                setStatus("Course name is required.", ACCENT_COLOR);
+                rejectCourse("Course name is required.");
                 return;
             }
             
-            if (marksText.isEmpty() || creditText.isEmpty()) {
+            CourseCatalog.Entry catalogEntry = CourseCatalog.shared().lookup(name);
+            boolean fromCatalog = creditText.isEmpty() && catalogEntry != null && catalogEntry.hasCredits();
+            if (marksText.isEmpty() || (creditText.isEmpty() && !fromCatalog)) {
                 showStyledMessage("Please enter both marks and credit hours", "Input Required", JOptionPane.WARNING_MESSAGE);
-                setStatus("Marks and credit hours are required.", ACCENT_COLOR);
+                rejectCourse("Marks and credit hours are required.");
                 return;
             }
             
             double marks = Double.parseDouble(marksText);
-            double credits = Double.parseDouble(creditText);
+            double credits = fromCatalog ? catalogEntry.credits() : Double.parseDouble(creditText);
+            if (fromCatalog) {
+                isGEDS = isGEDS || catalogEntry.isGEDS();
+            }
             
-            if (marks < 0 || marks > 100) {
+            if (!isValidMarks(marks)) {
                 showStyledMessage("Marks must be between 0 and 100", "Invalid Input", JOptionPane.WARNING_MESSAGE);
                 marksField.requestFocus();
-                setStatus("Marks must be between 0 and 100.", ACCENT_COLOR);
+                rejectCourse("Marks must be between 0 and 100.");
                 return;
             }
             
-            if (credits < 0 || credits > 10) {
+            if (!isValidCredits(credits)) {
                 showStyledMessage("Credit hours must be between 0 and 10", "Invalid Input", JOptionPane.WARNING_MESSAGE);
                 creditField.requestFocus();
-                setStatus("Credit hours must be between 0 and 10.", ACCENT_COLOR);
+                rejectCourse("Credit hours must be between 0 and 10.");
                 return;
             }
             
-            // Create and add course
-            Course course = new Course(name, marks, credits, isGEDS);
+            // Grade and add course
+            int band = courses.getScale().band(marks);
             
-            if (course.points < 0) {
+            if (band == GradingScale.INVALID) {
                 showStyledMessage("Invalid marks entered", "Error", JOptionPane.ERROR_MESSAGE);
-                setStatus("Invalid marks entered.", ACCENT_COLOR);
+                rejectCourse("Invalid marks entered.");
                 return;
             }
             
-            courses.add(course);
+            int row = courses.addCourse(name, marks, credits, isGEDS);
+            stats.add(courses, row);
+            undoLog.record(new AppendCoursesCommand("Add " + name, null, row, 1));
+            if (Metrics.ENABLED) {
+                COURSES_ADDED.increment();
+            }
             
             // Update display
+            adjustTableColumnWidths(row, row);
             updateDisplay();
             
             // Clear fields
@@ -733,51 +1239,438 @@ public class CgpaCalcGUI extends JFrame implements ActionListener {
             creditField.setText("");
             gedsCheck.setSelected(false);
             courseField.requestFocus();
-            setStatus("Added: " + name + " (" + course.grade + ")", new Color(46, 125, 50));
+            setStatus("Added: " + name + " (" + courses.getGradeLetter(row) + ")", new Color(46, 125, 50));
                 
         } catch (NumberFormatException ex) {
             showStyledMessage("Please enter valid numbers for marks and credits", "Input Error", JOptionPane.ERROR_MESSAGE);
-            setStatus("Please enter valid numbers for marks and credits.", ACCENT_COLOR);
+            rejectCourse("Please enter valid numbers for marks and credits.");
         }
     }
     
-    private void updateDisplay() {
-        courseTableModel.setRowCount(0);
-        for (int i = 0; i < courses.size(); i++) {
-            Course c = courses.get(i);
-            courseTableModel.addRow(new Object[] {
-                i + 1,
-                c.name,
-                String.format("%.1f", c.marks),
-                String.format("%.1f", c.credits),
-                c.grade,
-                String.format("%.1f", c.points),
-                c.isPassed() ? "Pass" : "Fail",
-                c.isGEDS ? "Yes" : "No"
+    // Method to fill credit hours and GEDS from the course catalog for a known code
+    private void fillFromCatalog() {
+        String name = courseField.getText().trim().toUpperCase();
+        CourseCatalog.Entry entry = name.isEmpty() ? null : CourseCatalog.shared().lookup(name);
+        if (entry == null || !entry.hasCredits() || !creditField.getText().trim().isEmpty()) {
+            return;
+        }
+        creditField.setText(String.valueOf(entry.credits()));
+        gedsCheck.setSelected(entry.isGEDS());
+        if (!entry.title().isEmpty()) {
+            setStatus(entry.code() + ": " + entry.title(), new Color(120, 120, 120));
+        }
+    }
+
+    // Method to (re)start the debounce timer; the preview runs once typing pauses
+    private void schedulePreview() {
+        if (previewTimer != null) {
+            previewTimer.restart();
+        }
+    }
+
+    // Method to snapshot the form and running totals on the EDT and project
+    // the GPA off it
+    private void startPreview() {
+        int generation = ++previewGeneration;
+        String marksText = marksField.getText().trim();
+        String creditText = creditField.getText().trim();
+        if (!livePreview || marksText.isEmpty()) {
+            previewLabel.setText(" ");
+            return;
+        }
+        double marks;
+        double credits;
+        try {
+            marks = Double.parseDouble(marksText);
+            if (creditText.isEmpty()) {
+                CourseCatalog.Entry entry = CourseCatalog.shared().lookup(courseField.getText().trim().toUpperCase());
+                credits = entry != null && entry.hasCredits() ? entry.credits() : Double.NaN;
+            } else {
+                credits = Double.parseDouble(creditText);
+            }
+        } catch (NumberFormatException ex) {
+            previewLabel.setText(" ");
+            return;
+        }
+        if (!isValidMarks(marks) || !isValidCredits(credits)) {
+            previewLabel.setText(" ");
+            return;
+        }
+        new PreviewWorker(generation, courses.getScale(), stats.totalPoints, stats.totalCredits,
+            marks, credits).execute();
+    }
+
+    // Projects the GPA with one more course from a snapshot of the running totals
+    private class PreviewWorker extends SwingWorker<String, Void> {
+        private final int generation;
+        private final GradingScale scale;
+        private final double totalPoints;
+        private final double totalCredits;
+        private final double marks;
+        private final double credits;
+
+        PreviewWorker(int generation, GradingScale scale, double totalPoints, double totalCredits,
+                      double marks, double credits) {
+            this.generation = generation;
+            this.scale = scale;
+            this.totalPoints = totalPoints;
+            this.totalCredits = totalCredits;
+            this.marks = marks;
+            this.credits = credits;
+        }
+
+        @Override
+        protected String doInBackground() {
+            int band = scale.band(marks);
+            double points = totalPoints + scale.points(band) * credits;
+            double hours = totalCredits + credits;
+            double gpa = hours > 0 ? points / hours : 0;
+            return "Preview: " + scale.letter(band) + " -> GPA " + String.format("%.2f", gpa)
+                + " (" + Classification.of(scale.toFivePoint(gpa)).label() + ")";
+        }
+
+        @Override
+        protected void done() {
+            if (generation != previewGeneration) {
+                return;
+            }
+            try {
+                previewLabel.setText(get());
+            } catch (InterruptedException | ExecutionException ex) {
+                previewLabel.setText(" ");
+            }
+        }
+    }
+
+    private void rejectCourse(String status) {
+        if (Metrics.ENABLED) {
+            COURSES_REJECTED.increment();
+        }
+        setStatus(status, ACCENT_COLOR);
+    }
+
+    private void removeSelectedCourse() {
+        int viewRow = courseTable.getSelectedRow();
+        if (viewRow < 0) {
+            showStyledMessage("Select a course to remove.", "Information", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+        int row = courseTable.convertRowIndexToModel(viewRow);
+        String name = courses.getName(row);
+        undoLog.record(new RemoveCourseCommand(name, row, courses.copyRows(row, row + 1)));
+        stats.remove(courses, row);
+        courses.removeRow(row);
+        updateDisplay();
+        setStatus("Removed: " + name, new Color(120, 120, 120));
+    }
+
+    // Validation rules shared by addCourse() and transcript imports
+    static boolean isValidMarks(double marks) {
+        return marks >= 0 && marks <= 100;
+    }
+
+    static boolean isValidCredits(double credits) {
+        return credits >= 0 && credits <= 10;
+    }
+
+    static boolean isValidCourse(String name, double marks, double credits) {
+        return !name.isEmpty() && isValidMarks(marks) && isValidCredits(credits);
+    }
+
+    private void importTranscript() {
+        if (importWorker != null) {
+            showStyledMessage("An import is already running.", "Information", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+        JFileChooser chooser = new JFileChooser();
+        chooser.setDialogTitle("Import Transcript");
+        chooser.setFileFilter(new FileNameExtensionFilter("Transcripts (CSV, TSV, JSON)", "csv", "tsv", "txt", "json"));
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        importWorker = new ImportWorker(chooser.getSelectedFile().toPath());
+        importMenuItem.setEnabled(false);
+        setStatus("Importing " + chooser.getSelectedFile().getName() + "...", PRIMARY_COLOR);
+        importWorker.execute();
+    }
+
+    // Parses a transcript off the EDT and publishes courses in chunks
+    private class ImportWorker extends SwingWorker<TranscriptImporter.Summary, TranscriptImporter.Chunk> {
+        private final Path file;
+        private final long fileSize;
+
+        ImportWorker(Path file) {
+            this.file = file;
+            this.fileSize = file.toFile().length();
+        }
+
+        // Method to log a published chunk, growing this import's command while
+        // it is still the last edit so the whole import undoes in one step
+        private void recordImport(int first, int count) {
+            UndoLog.Command last = undoLog.peekUndo();
+            if (last instanceof AppendCoursesCommand && ((AppendCoursesCommand) last).source == this
+                    && !undoLog.canRedo()) {
+                ((AppendCoursesCommand) last).count += count;
+            } else {
+                undoLog.record(new AppendCoursesCommand("Import " + file.getFileName(), this, first, count));
+            }
+        }
+
+        @Override
+        protected TranscriptImporter.Summary doInBackground() throws Exception {
+            return TranscriptImporter.read(file, this::publish, bytes -> {
+                if (fileSize > 0) {
+                    setProgress((int) Math.min(100, bytes * 100 / fileSize));
+                }
             });
         }
-        adjustTableColumnWidths();
 
-        Stats stats = computeStats();
+        @Override
+        protected void process(List<TranscriptImporter.Chunk> chunks) {
+            for (TranscriptImporter.Chunk chunk : chunks) {
+                int first = courses.addCourses(chunk.names, chunk.marks, chunk.credits, chunk.geds, chunk.size);
+                int last = first + chunk.size - 1;
+                for (int row = first; row <= last; row++) {
+                    stats.add(courses, row);
+                }
+                recordImport(first, chunk.size);
+                adjustTableColumnWidths(first, Math.min(last, first + 99));
+            }
+            updateDisplay();
+            setStatus("Importing... " + getProgress() + "% (" + courses.size() + " courses)", PRIMARY_COLOR);
+        }
+
+        @Override
+        protected void done() {
+            importWorker = null;
+            importMenuItem.setEnabled(true);
+            try {
+                TranscriptImporter.Summary summary = get();
+                String message = "Imported " + summary.imported + " courses";
+                if (summary.rejected > 0) {
+                    message += ", skipped " + summary.rejected + " invalid rows";
+                }
+                setStatus(message + ".", new Color(46, 125, 50));
+            } catch (ExecutionException ex) {
+                showStyledMessage("Import failed: " + ex.getCause().getMessage(), "Import Error", JOptionPane.ERROR_MESSAGE);
+                setStatus("Import failed.", ACCENT_COLOR);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private JFileChooser createSessionChooser(String title) {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setDialogTitle(title);
+        chooser.setFileFilter(new FileNameExtensionFilter("CGPA sessions (*." + SessionStore.EXTENSION + ")", SessionStore.EXTENSION));
+        return chooser;
+    }
+
+    private void saveSession() {
+        JFileChooser chooser = createSessionChooser("Save Session");
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        Path file = chooser.getSelectedFile().toPath();
+        if (!file.getFileName().toString().contains(".")) {
+            file = file.resolveSibling(file.getFileName() + "." + SessionStore.EXTENSION);
+        }
+        try {
+            SessionStore.save(file, courses, semesters);
+            setStatus("Session saved to " + file.getFileName() + ".", new Color(46, 125, 50));
+        } catch (IOException ex) {
+            showStyledMessage("Could not save session: " + ex.getMessage(), "Save Error", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    private void openSession() {
+        if (importWorker != null) {
+            showStyledMessage("Wait for the running import to finish.", "Information", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+        JFileChooser chooser = createSessionChooser("Open Session");
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        Path file = chooser.getSelectedFile().toPath();
+        CourseTableModel loadedCourses = new CourseTableModel();
+        ArrayList<SemesterRecord> loadedSemesters = new ArrayList<>();
+        try {
+            SessionStore.load(file, loadedCourses, loadedSemesters);
+        } catch (IOException ex) {
+            showStyledMessage("Could not open session: " + ex.getMessage(), "Open Error", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+
+        courses.clear();
+        courses.addAll(loadedCourses);
+        computeStats(courses, stats);
+        adjustTableColumnWidths(0, -1);
+        adjustTableColumnWidths(0, Math.min(courses.size(), 100) - 1);
+        updateDisplay();
+
+        semesters.clear();
+        semesters.addAll(loadedSemesters);
+        updateSemesterDisplay();
+        undoLog.clear();
+        setStatus("Opened " + file.getFileName() + " (" + courses.size() + " courses).", new Color(46, 125, 50));
+    }
+
+    private void updateDisplay() {
+        long start = Metrics.start();
         updateStatsPanel(stats);
         updateSummary(stats);
 
-        if (stats.total > 0) {
-            statsLabel.setText(stats.total + " courses - GPA: " + String.format("%.2f", stats.cgpa));
-        } else {
-            statsLabel.setText("0 courses");
-        }
+        updateStatsLabel();
 
         calculateButton.setEnabled(stats.total > 0);
         clearButton.setEnabled(stats.total > 0);
+        removeButton.setEnabled(stats.total > 0);
+        if (Metrics.ENABLED) {
+            UPDATE_DISPLAY_TIME.recordSince(start);
+        }
+        updatePlanner();
+        schedulePreview();
     }
     
+    private void updateStatsLabel() {
+        String text = stats.total > 0
+            ? stats.total + " courses - GPA: " + String.format("%.2f", stats.cgpa)
+            : "0 courses";
+        if (courseSorter != null && courseSorter.getViewRowCount() != courses.size()) {
+            text = "Showing " + courseSorter.getViewRowCount() + " of " + text;
+        }
+        statsLabel.setText(text);
+    }
+
+    private JComponent createFilterBar() {
+        JPanel bar = new JPanel(new FlowLayout(FlowLayout.LEFT, 6, 0));
+        bar.setOpaque(false);
+        Font font = new Font("Segoe UI", Font.PLAIN, 12);
+
+        gradeFilterCombo = new JComboBox<>();
+        statusFilterCombo = new JComboBox<>(new String[] {"Pass & Fail", "Passed", "Failed"});
+        gedsFilterCombo = new JComboBox<>(new String[] {"All Courses", "GEDS Only", "Non-GEDS"});
+        minMarksFilterField = new JTextField(3);
+        maxMarksFilterField = new JTextField(3);
+        rebuildGradeFilter();
+
+        JLabel marksLabel = new JLabel("Marks");
+        JLabel toLabel = new JLabel("to");
+        JButton resetButton = new JButton("Reset");
+        for (JComponent component : new JComponent[] {gradeFilterCombo, statusFilterCombo, gedsFilterCombo,
+                marksLabel, minMarksFilterField, toLabel, maxMarksFilterField, resetButton}) {
+            component.setFont(font);
+            bar.add(component);
+        }
+
+        gradeFilterCombo.addActionListener(e -> applyFilter());
+        statusFilterCombo.addActionListener(e -> applyFilter());
+        gedsFilterCombo.addActionListener(e -> applyFilter());
+        DocumentListener marksListener = new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                applyFilter();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                applyFilter();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                applyFilter();
+            }
+        };
+        minMarksFilterField.getDocument().addDocumentListener(marksListener);
+        maxMarksFilterField.getDocument().addDocumentListener(marksListener);
+        resetButton.addActionListener(e -> {
+            updatingFilter = true;
+            try {
+                gradeFilterCombo.setSelectedIndex(0);
+                statusFilterCombo.setSelectedIndex(0);
+                gedsFilterCombo.setSelectedIndex(0);
+                minMarksFilterField.setText("");
+                maxMarksFilterField.setText("");
+            } finally {
+                updatingFilter = false;
+            }
+            applyFilter();
+            courseSorter.setSortKeys(null);
+        });
+        return bar;
+    }
+
+    // Method to list the active scale's grades in the grade filter
+    private void rebuildGradeFilter() {
+        if (gradeFilterCombo == null) {
+            return;
+        }
+        GradingScale scale = courses.getScale();
+        updatingFilter = true;
+        try {
+            gradeFilterCombo.removeAllItems();
+            gradeFilterCombo.addItem("All Grades");
+            for (int band = 0; band < scale.getBandCount(); band++) {
+                gradeFilterCombo.addItem("Grade " + scale.letter(band));
+            }
+        } finally {
+            updatingFilter = false;
+        }
+    }
+
+    // Method to filter the course table from the filter bar; a marks bound
+    // that does not parse is left open
+    private void applyFilter() {
+        if (updatingFilter || courseSorter == null) {
+            return;
+        }
+        int status = statusFilterCombo.getSelectedIndex();
+        int geds = gedsFilterCombo.getSelectedIndex();
+        courseSorter.setFilter(new CourseRowSorter.Filter(
+            gradeFilterCombo.getSelectedIndex() - 1,
+            status == 0 ? CourseRowSorter.ANY : status == 1 ? 1 : 0,
+            geds == 0 ? CourseRowSorter.ANY : geds == 1 ? 1 : 0,
+            parseBound(minMarksFilterField.getText(), 0),
+            parseBound(maxMarksFilterField.getText(), 100)));
+        updateStatsLabel();
+    }
+
+    private static double parseBound(String text, double open) {
+        try {
+            return text.isBlank() ? open : Double.parseDouble(text.trim());
+        } catch (NumberFormatException ex) {
+            return open;
+        }
+    }
+
     private void updateStatsPanel(Stats stats) {
         totalCoursesValueLabel.setText(String.valueOf(stats.total));
         passedValueLabel.setText(String.valueOf(stats.passed));
         failedValueLabel.setText(String.valueOf(stats.failed));
         cgpaValueLabel.setText(String.format("%.2f", stats.cgpa));
-        cgpaValueLabel.setForeground(getCgpaColor(stats.cgpa));
+        cgpaValueLabel.setForeground(getCgpaColor(courses.getScale().toFivePoint(stats.cgpa)));
+        updateRank(stats);
+    }
+
+    // Method to re-rank the student on screen and show where they stand in the workspace
+    private void updateRank(Stats stats) {
+        double cgpa5Scale = courses.getScale().toFivePoint(stats.cgpa);
+        workspace.rank(session, stats.total > 0, cgpa5Scale);
+        CohortRanking ranking = workspace.getRanking();
+        if (stats.total == 0) {
+            rankValueLabel.setText("-");
+            rankValueLabel.setToolTipText("Add courses to be ranked against the workspace.");
+            return;
+        }
+        int rank = ranking.rank(cgpa5Scale);
+        double percentile = ranking.percentile(cgpa5Scale);
+        rankValueLabel.setText("<html>" + rank + "<span style='font-size:11px'> / " + ranking.size()
+            + " &middot; P" + Math.round(percentile) + "</span></html>");
+        rankValueLabel.setToolTipText(String.format("Rank %d of %d students (%.1f percentile)",
+            rank, ranking.size(), percentile));
     }
 
     private void updateSummary(Stats stats) {
@@ -786,8 +1679,8 @@ public class CgpaCalcGUI extends JFrame implements ActionListener {
             return;
         }
         summaryLabel.setText(String.format(
-            "GPA: %.2f/5.00 (%.2f%%)   Credits: %.2f   Points: %.2f",
-            stats.cgpa, stats.percentage, stats.totalCredits, stats.totalPoints
+            "GPA: %.2f/%.2f (%.2f%%)   Credits: %.2f   Points: %.2f",
+            stats.cgpa, stats.maxPoints, stats.percentage, stats.totalCredits, stats.totalPoints
         ));
     }
 
@@ -795,28 +1688,39 @@ public class CgpaCalcGUI extends JFrame implements ActionListener {
         String semester = semesterField.getText().trim().toUpperCase();
         String session = sessionField.getText().trim().toUpperCase();
         String cgpaText = semesterCgpaField.getText().trim();
+        String creditsText = semesterCreditsField.getText().trim();
 
-        if (semester.isEmpty() || session.isEmpty() || cgpaText.isEmpty()) {
-            showStyledMessage("Enter semester, session, and semester CGPA.", "Input Required", JOptionPane.WARNING_MESSAGE);
+        if (semester.isEmpty() || session.isEmpty() || cgpaText.isEmpty() || creditsText.isEmpty()) {
+            showStyledMessage("Enter semester, session, semester CGPA and credits.", "Input Required", JOptionPane.WARNING_MESSAGE);
             return;
         }
         double cgpa;
+        double credits;
         try {
             cgpa = Double.parseDouble(cgpaText);
+            credits = Double.parseDouble(creditsText);
         } catch (NumberFormatException ex) {
-            showStyledMessage("Semester CGPA must be a valid number.", "Invalid Input", JOptionPane.WARNING_MESSAGE);
+            showStyledMessage("Semester CGPA and credits must be valid numbers.", "Invalid Input", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        double maxPoints = courses.getScale().getMaxPoints();
+        if (cgpa < 0 || cgpa > maxPoints) {
+            showStyledMessage(String.format("Semester CGPA must be between 0.00 and %.2f.", maxPoints),
+                "Invalid Input", JOptionPane.WARNING_MESSAGE);
             return;
         }
-        if (cgpa < 0 || cgpa > 5.0) {
-            showStyledMessage("Semester CGPA must be between 0.00 and 5.00.", "Invalid Input", JOptionPane.WARNING_MESSAGE);
+        if (!(credits > 0 && credits <= 100)) {
+            showStyledMessage("Semester credits must be between 0 and 100.", "Invalid Input", JOptionPane.WARNING_MESSAGE);
             return;
         }
 
-        semesters.add(new SemesterRecord(semester, session, cgpa));
-        updateSemesterDisplay();
+        SemesterRecord record = new SemesterRecord(semester, session, cgpa, credits);
+        addSemester(record);
+        undoLog.record(new AddSemesterCommand(record));
         semesterField.setText("");
         sessionField.setText("");
         semesterCgpaField.setText("");
+        semesterCreditsField.setText("");
     }
 
     private void clearSemesters() {
@@ -824,64 +1728,76 @@ public class CgpaCalcGUI extends JFrame implements ActionListener {
             showStyledMessage("No semesters to clear.", "Information", JOptionPane.INFORMATION_MESSAGE);
             return;
         }
+        undoLog.record(new ClearSemestersCommand(new ArrayList<>(semesters)));
         semesters.clear();
         updateSemesterDisplay();
     }
 
+    private void addSemester(SemesterRecord record) {
+        semesters.add(record);
+        cumulative.add(record.cgpa, record.credits);
+        appendSemesterRow(semesters.size() - 1);
+        updateSemesterSummary();
+    }
+
+    // Method to rebuild the cumulative engine and semester table from the list
     private void updateSemesterDisplay() {
+        cumulative.clear();
+        for (SemesterRecord record : semesters) {
+            cumulative.add(record.cgpa, record.credits);
+        }
         if (semesterTableModel == null) {
             return;
         }
         semesterTableModel.setRowCount(0);
-        double total = 0;
         for (int i = 0; i < semesters.size(); i++) {
-            SemesterRecord record = semesters.get(i);
-            semesterTableModel.addRow(new Object[] {
-                i + 1,
-                record.semester,
-                record.session,
-                String.format("%.2f", record.cgpa)
-            });
-            total += record.cgpa;
+            appendSemesterRow(i);
         }
-        if (semesterSummaryLabel != null) {
-            if (semesters.isEmpty()) {
-                semesterSummaryLabel.setText("Add semesters to see cumulative CGPA.");
-            } else {
-                double cumulative = total / semesters.size();
-                semesterSummaryLabel.setText(String.format(
-                    "Cumulative CGPA: %.2f/5.00 (based on %d semesters)",
-                    cumulative, semesters.size()
-                ));
-            }
+        updateSemesterSummary();
+    }
+
+    private void appendSemesterRow(int index) {
+        if (semesterTableModel == null) {
+            return;
         }
+        SemesterRecord record = semesters.get(index);
+        semesterTableModel.addRow(new Object[] {
+            index + 1,
+            record.semester,
+            record.session,
+            String.format("%.2f", record.cgpa),
+            formatOneDecimal(record.credits),
+            String.format("%.2f", cumulative.cumulativeAt(index))
+        });
     }
 
-    private Stats computeStats() {
-        Stats stats = new Stats();
-        stats.total = courses.size();
-        if (stats.total == 0) {
-            return stats;
+    private void updateSemesterSummary() {
+        if (semesterSummaryLabel == null) {
+            return;
         }
-        for (Course c : courses) {
-            stats.totalPoints += c.points * c.credits;
-            stats.totalCredits += c.credits;
-            if (c.isPassed()) {
-                stats.passed++;
-            }
-            if (c.marks > stats.highestMark) {
-                stats.highestMark = c.marks;
-                stats.easiestCourse = c.name;
-            }
-            if (c.marks < stats.lowestMark) {
-                stats.lowestMark = c.marks;
-                stats.hardestCourse = c.name;
-            }
+        if (semesters.isEmpty()) {
+            semesterSummaryLabel.setText("Add semesters to see cumulative CGPA.");
+        } else {
+            semesterSummaryLabel.setText(String.format(
+                "Cumulative CGPA: %.2f/%.2f (based on %d semesters, %.1f credits)",
+                cumulative.cumulative(), courses.getScale().getMaxPoints(), semesters.size(), cumulative.totalCredits()
+            ));
+        }
+    }
+
+    static Stats computeStats(CourseTableModel courses) {
+        return computeStats(courses, new Stats());
+    }
+
+    // Method to recompute stats from scratch over every course
+    static Stats computeStats(CourseTableModel courses, Stats stats) {
+        long start = Metrics.start();
+        stats.reset();
+        for (int row = 0; row < courses.size(); row++) {
+            stats.add(courses, row);
         }
-        stats.failed = stats.total - stats.passed;
-        if (stats.totalCredits > 0) {
-            stats.cgpa = stats.totalPoints / stats.totalCredits;
-            stats.percentage = (stats.cgpa / 5.0) * 100;
+        if (Metrics.ENABLED) {
+            COMPUTE_STATS_TIME.recordSince(start);
         }
         return stats;
     }
@@ -894,24 +1810,36 @@ public class CgpaCalcGUI extends JFrame implements ActionListener {
     }
 
 
-    private void adjustTableColumnWidths() {
+    // Method to widen columns to fit rows firstRow..lastRow; pass an empty
+    // range to reset the columns to their header widths
+    private void adjustTableColumnWidths(int firstRow, int lastRow) {
         if (courseTable == null) {
             return;
         }
         int padding = 16;
+        boolean reset = lastRow < firstRow;
         for (int col = 0; col < courseTable.getColumnCount(); col++) {
+            TableColumn column = courseTable.getColumnModel().getColumn(col);
             int maxWidth = 0;
-            TableCellRenderer headerRenderer = courseTable.getTableHeader().getDefaultRenderer();
-            Component headerComp = headerRenderer.getTableCellRendererComponent(
-                courseTable, courseTable.getColumnName(col), false, false, -1, col);
-            maxWidth = Math.max(maxWidth, headerComp.getPreferredSize().width);
-
-            for (int row = 0; row < courseTable.getRowCount(); row++) {
-                TableCellRenderer renderer = courseTable.getCellRenderer(row, col);
-                Component comp = courseTable.prepareRenderer(renderer, row, col);
+            if (reset) {
+                TableCellRenderer headerRenderer = courseTable.getTableHeader().getDefaultRenderer();
+                Component headerComp = headerRenderer.getTableCellRendererComponent(
+                    courseTable, courseTable.getColumnName(col), false, false, -1, col);
+                maxWidth = headerComp.getPreferredSize().width;
+            } else {
+                maxWidth = column.getPreferredWidth() - padding;
+            }
+
+            for (int row = Math.max(firstRow, 0); row <= lastRow; row++) {
+                int viewRow = courseTable.convertRowIndexToView(row);
+                if (viewRow < 0) {
+                    continue; // Filtered out
+                }
+                TableCellRenderer renderer = courseTable.getCellRenderer(viewRow, col);
+                Component comp = courseTable.prepareRenderer(renderer, viewRow, col);
                 maxWidth = Math.max(maxWidth, comp.getPreferredSize().width);
             }
-            courseTable.getColumnModel().getColumn(col).setPreferredWidth(maxWidth + padding);
+            column.setPreferredWidth(maxWidth + padding);
         }
     }
 
@@ -929,7 +1857,6 @@ public class CgpaCalcGUI extends JFrame implements ActionListener {
     }
     
     private void calculateCGPA() {
-        Stats stats = computeStats();
         if (stats.total == 0) {
             showStyledMessage(
                 "<html><div style='text-align: center;'>" +
@@ -942,9 +1869,9 @@ public class CgpaCalcGUI extends JFrame implements ActionListener {
             return;
         }
 
+        GradingScale scale = courses.getScale();
         double gpa = stats.cgpa;
-        String classification = getClassification(gpa);
-        String recommendation = getRecommendation(gpa);
+        Classification classification = Classification.of(scale.toFivePoint(gpa));
 
         StringBuilder html = new StringBuilder();
         html.append("<html><div style='font-family: Segoe UI; font-size: 11pt;'>");
@@ -956,16 +1883,16 @@ public class CgpaCalcGUI extends JFrame implements ActionListener {
         html.append(String.format("Total Credits: %.2f<br>", stats.totalCredits));
         html.append(String.format("Total Points: %.2f<br><br>", stats.totalPoints));
         html.append("<b>Results</b><br>");
-        html.append(String.format("GPA: %.2f / 5.00<br>", gpa));
-        html.append(String.format("Percentage: %.2f%%<br>", (gpa / 5.0) * 100));
-        html.append("Classification: ").append(classification).append("<br><br>");
+        html.append(String.format("GPA: %.2f / %.2f<br>", gpa, scale.getMaxPoints()));
+        html.append(String.format("Percentage: %.2f%%<br>", scale.toPercentage(gpa)));
+        html.append("Classification: ").append(classification.label()).append("<br><br>");
         html.append("<b>Course Analysis</b><br>");
         html.append(String.format("Highest Mark: %.1f", stats.highestMark)).append("<br>");
         html.append("Easiest Course: ").append(stats.easiestCourse.isEmpty() ? "-" : stats.easiestCourse).append("<br>");
         html.append(String.format("Lowest Mark: %.1f", stats.lowestMark)).append("<br>");
         html.append("Hardest Course: ").append(stats.hardestCourse.isEmpty() ? "-" : stats.hardestCourse).append("<br><br>");
         html.append("<b>Recommendation</b><br>");
-        html.append(recommendation);
+        html.append(classification.recommendation());
         html.append("</div></html>");
 
         JLabel resultLabel = new JLabel(html.toString());
@@ -975,26 +1902,6 @@ public class CgpaCalcGUI extends JFrame implements ActionListener {
             "CGPA Calculation Results", JOptionPane.INFORMATION_MESSAGE);
     }
 
-    private String getClassification(double cgpa) {
-        if (cgpa >= 4.5) return "First Class with Distinction";
-        else if (cgpa >= 4.0) return "First Class";
-        else if (cgpa >= 3.5) return "Second Class Upper";
-        else if (cgpa >= 3.0) return "Second Class Lower";
-        else if (cgpa >= 2.0) return "Third Class";
-        else if (cgpa >= 1.0) return "Pass";
-        else return "Fail";
-    }
-    
-    private String getRecommendation(double cgpa) {
-        if (cgpa >= 4.5) return "Outstanding! Maintain this excellence and consider advanced courses.";
-        else if (cgpa >= 4.0) return "Excellent work! Keep up the good performance.";
-        else if (cgpa >= 3.5) return "Very good! Focus on improving weak areas for even better results.";
-        else if (cgpa >= 3.0) return "Good performance. Review subjects where you scored below B.";
-        else if (cgpa >= 2.0) return "Satisfactory. Consider seeking academic support or tutoring.";
-        else if (cgpa >= 1.0) return "Needs improvement. Please meet with your academic advisor.";
-        else return "Critical situation. Immediate academic counseling required.";
-    }
-    
     private void clearAll() {
         if (courses.isEmpty()) {
             showStyledMessage("No courses to clear.", "Information", JOptionPane.INFORMATION_MESSAGE);
@@ -1005,7 +1912,7 @@ public class CgpaCalcGUI extends JFrame implements ActionListener {
             "<html><div style='text-align: center; width: 250px;'>" +
             "<b>Clear All Courses?</b><br><br>" +
             "You're about to delete <b>" + courses.size() + "</b> courses.<br>" +
-            "This action cannot be undone.<br><br>" +
+            "You can undo this from the Edit menu.<br><br>" +
             "Are you sure you want to continue?" +
             "</div></html>",
             "Confirm Clear",
@@ -1013,20 +1920,484 @@ public class CgpaCalcGUI extends JFrame implements ActionListener {
             JOptionPane.WARNING_MESSAGE);
         
         if (confirm == JOptionPane.YES_OPTION) {
+            undoLog.record(new ClearCoursesCommand(courses.copyRows(0, courses.size())));
             courses.clear();
+            stats.reset();
+            adjustTableColumnWidths(0, -1);
             updateDisplay();
             setStatus("All courses cleared.", new Color(120, 120, 120));
         }
     }
     
+    private JComponent createStudentPanel() {
+        JPanel panel = new JPanel(new BorderLayout(0, 10));
+        panel.setBackground(CARD_COLOR);
+        panel.setPreferredSize(new Dimension(190, 0));
+        panel.setBorder(BorderFactory.createCompoundBorder(
+            BorderFactory.createLineBorder(new Color(220, 220, 220), 1),
+            BorderFactory.createEmptyBorder(16, 12, 16, 12)
+        ));
+
+        JPanel top = new JPanel(new BorderLayout(0, 8));
+        top.setOpaque(false);
+        JLabel title = new JLabel("STUDENTS");
+        title.setFont(new Font("Segoe UI", Font.BOLD, 15));
+        title.setForeground(TEXT_COLOR);
+        top.add(title, BorderLayout.NORTH);
+        studentSearchField = new JTextField();
+        studentSearchField.setToolTipText("Search by matriculation number");
+        studentSearchField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                refreshStudentList();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                refreshStudentList();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                refreshStudentList();
+            }
+        });
+        top.add(studentSearchField, BorderLayout.SOUTH);
+        panel.add(top, BorderLayout.NORTH);
+
+        studentListModel = new DefaultListModel<>();
+        studentList = new JList<>(studentListModel);
+        studentList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        studentList.setFont(new Font("Segoe UI", Font.PLAIN, 13));
+        studentList.addListSelectionListener(e -> {
+            String selected = studentList.getSelectedValue();
+            if (!updatingStudentList && !e.getValueIsAdjusting() && selected != null) {
+                Workspace.StudentSession target = workspace.get(selected);
+                if (target != null) {
+                    switchStudent(target);
+                }
+            }
+        });
+        JScrollPane scrollPane = new JScrollPane(studentList);
+        scrollPane.setBorder(BorderFactory.createLineBorder(new Color(240, 240, 240), 1));
+        panel.add(scrollPane, BorderLayout.CENTER);
+
+        JPanel buttons = new JPanel(new GridLayout(1, 2, 6, 0));
+        buttons.setOpaque(false);
+        JButton addStudentButton = createStyledButton("Add", PRIMARY_COLOR);
+        addStudentButton.addActionListener(e -> addStudent());
+        JButton removeStudentButton = createStyledButton("Remove", ACCENT_COLOR);
+        removeStudentButton.addActionListener(e -> removeStudent());
+        buttons.add(addStudentButton);
+        buttons.add(removeStudentButton);
+        panel.add(buttons, BorderLayout.SOUTH);
+
+        refreshStudentList();
+        return panel;
+    }
+
+    // Method to refill the student list from the workspace and search box
+    private void refreshStudentList() {
+        if (studentListModel == null) {
+            return;
+        }
+        updatingStudentList = true;
+        try {
+            studentListModel.clear();
+            studentListModel.addAll(workspace.search(studentSearchField.getText()));
+            studentList.setSelectedValue(session.matricNumber, true);
+        } finally {
+            updatingStudentList = false;
+        }
+    }
+
+    private void addStudent() {
+        String matricNumber = JOptionPane.showInputDialog(this, "Matriculation number:", "Add Student",
+            JOptionPane.PLAIN_MESSAGE);
+        if (matricNumber == null || matricNumber.isBlank()) {
+            return;
+        }
+        Workspace.StudentSession target = workspace.open(matricNumber);
+        studentSearchField.setText("");
+        switchStudent(target);
+    }
+
+    private void removeStudent() {
+        if (workspace.size() == 1) {
+            showStyledMessage("The workspace needs at least one student.", "Information", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+        if (importWorker != null) {
+            showStyledMessage("Wait for the running import to finish.", "Information", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+        int confirm = JOptionPane.showConfirmDialog(this,
+            "Remove " + session.matricNumber + " and all their courses from the workspace?",
+            "Remove Student", JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE);
+        if (confirm != JOptionPane.YES_OPTION) {
+            return;
+        }
+        String removed = session.matricNumber;
+        workspace.remove(removed);
+        switchStudent(workspace.get(workspace.search("").get(0)));
+        setStatus("Removed student " + removed + ".", new Color(120, 120, 120));
+    }
+
+    // Method to put another student on screen. Each student keeps its own
+    // model and running stats, so the table is pointed at the other model
+    // rather than rebuilt; only a student last seen under another scale is
+    // regraded.
+    private void switchStudent(Workspace.StudentSession target) {
+        if (target == session) {
+            refreshStudentList();
+            return;
+        }
+        if (importWorker != null) {
+            showStyledMessage("Wait for the running import to finish.", "Information", JOptionPane.INFORMATION_MESSAGE);
+            refreshStudentList();
+            return;
+        }
+        session = target;
+        courses = target.courses;
+        semesters = target.semesters;
+        cumulative = target.cumulative;
+        stats = target.stats;
+        undoLog = target.undoLog;
+
+        GradingScale scale = GradingScale.active();
+        if (courses.getScale() != scale) {
+            courses.setScale(scale);
+            computeStats(courses, stats);
+        }
+        courseSorter.setModel(courses);
+        courseTable.setModel(courses);
+        adjustTableColumnWidths(0, -1);
+        adjustTableColumnWidths(0, Math.min(courses.size(), 100) - 1);
+        updateDisplay();
+        updateSemesterDisplay();
+        updateUndoMenu();
+        refreshStudentList();
+        setStatus("Student: " + target.matricNumber + " (" + courses.size() + " courses)", new Color(120, 120, 120));
+    }
+
+    private void openCohort() {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setDialogTitle("Open Cohort");
+        chooser.setFileFilter(new FileNameExtensionFilter("Registry results (CSV, TSV)", "csv", "tsv", "txt"));
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        setStatus("Loading " + chooser.getSelectedFile().getName() + "...", PRIMARY_COLOR);
+        new CohortWorker(chooser.getSelectedFile().toPath()).execute();
+    }
+
+    // Loads a registry result file into the workspace off the EDT, one
+    // session per student. A session is filled in before it is added to the
+    // workspace's concurrent map, so the EDT only ever sees complete students.
+    // Rows of a student must be contiguous; a student that comes back after
+    // another one fails the load with its line number.
+    private class CohortWorker extends SwingWorker<int[], String> {
+        private final Path file;
+        private int loaded;
+        private int skipped;
+        private int invalid;
+        private Workspace.StudentSession current;
+        private final Set<String> seen = new HashSet<>();
+
+        CohortWorker(Path file) {
+            this.file = file;
+        }
+
+        @Override
+        protected int[] doInBackground() throws Exception {
+            try (LineNumberReader in = new LineNumberReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+                try {
+                    BatchCgpaCalc.readRows(in, (studentId, course, marks, creditHours, gedsCourse) -> {
+                        String matricNumber = Workspace.normalize(studentId);
+                        if (current == null || !current.matricNumber.equals(matricNumber)) {
+                            finishStudent();
+                            if (!seen.add(matricNumber)) {
+                                throw new UncheckedIOException(new IOException("Line " + in.getLineNumber()
+                                    + ": rows of " + matricNumber + " are not contiguous"));
+                            }
+                            current = workspace.newSession(studentId);
+                        }
+                        String name = course.toUpperCase();
+                        if (isValidCourse(name, marks, creditHours)) {
+                            int row = current.courses.addCourse(name, marks, creditHours, gedsCourse);
+                            current.stats.add(current.courses, row);
+                        } else {
+                            invalid++;
+                        }
+                    });
+                } catch (UncheckedIOException ex) {
+                    throw ex.getCause();
+                }
+            }
+            finishStudent();
+            return new int[] {loaded, skipped, invalid};
+        }
+
+        private void finishStudent() {
+            if (current == null) {
+                return;
+            }
+            if (workspace.add(current)) {
+                workspace.rank(current, current.stats.total > 0,
+                    current.courses.getScale().toFivePoint(current.stats.cgpa));
+                loaded++;
+                publish(current.matricNumber);
+            } else {
+                skipped++;
+            }
+            current = null;
+        }
+
+        @Override
+        protected void process(List<String> matricNumbers) {
+            refreshStudentList();
+            setStatus("Loading... " + workspace.size() + " students", PRIMARY_COLOR);
+        }
+
+        @Override
+        protected void done() {
+            refreshStudentList();
+            try {
+                int[] counts = get();
+                String message = "Loaded " + counts[0] + " students";
+                if (counts[1] > 0) {
+                    message += ", skipped " + counts[1] + " already open";
+                }
+                if (counts[2] > 0) {
+                    message += ", " + counts[2] + " invalid rows skipped";
+                }
+                setStatus(message + ".", new Color(46, 125, 50));
+            } catch (InterruptedException | ExecutionException ex) {
+                Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                showStyledMessage("Could not load cohort: " + cause.getMessage(), "Open Error", JOptionPane.ERROR_MESSAGE);
+                setStatus("Cohort load failed.", ACCENT_COLOR);
+            }
+        }
+    }
+
+    private void undo() {
+        UndoLog.Command command = undoLog.undo();
+        if (command != null) {
+            setStatus("Undone: " + command.name(), new Color(120, 120, 120));
+        }
+    }
+
+    private void redo() {
+        UndoLog.Command command = undoLog.redo();
+        if (command != null) {
+            setStatus("Redone: " + command.name(), new Color(120, 120, 120));
+        }
+    }
+
+    private void updateUndoMenu() {
+        if (undoMenuItem == null) {
+            return;
+        }
+        undoMenuItem.setEnabled(undoLog.canUndo());
+        undoMenuItem.setText(undoLog.canUndo() ? "Undo " + undoLog.undoName() : "Undo");
+        redoMenuItem.setEnabled(undoLog.canRedo());
+        redoMenuItem.setText(undoLog.canRedo() ? "Redo " + undoLog.redoName() : "Redo");
+    }
+
+    // Courses appended to the end of the table: one added course, or the
+    // chunks of an import. Undo keeps the removed rows to redo them.
+    private class AppendCoursesCommand implements UndoLog.Command {
+        private final String name;
+        private final Object source;
+        private final int first;
+        private int count;
+        private CourseTableModel.Rows rows;
+
+        AppendCoursesCommand(String name, Object source, int first, int count) {
+            this.name = name;
+            this.source = source;
+            this.first = first;
+            this.count = count;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public void undo() {
+            rows = courses.copyRows(first, first + count);
+            stats.truncate(courses, first);
+            courses.truncate(first);
+            updateDisplay();
+        }
+
+        @Override
+        public void redo() {
+            courses.insertRows(first, rows);
+            for (int row = first; row < first + count; row++) {
+                stats.add(courses, row);
+            }
+            rows = null;
+            adjustTableColumnWidths(first, Math.min(first + count, first + 100) - 1);
+            updateDisplay();
+        }
+    }
+
+    private class RemoveCourseCommand implements UndoLog.Command {
+        private final String name;
+        private final int row;
+        private final CourseTableModel.Rows removed;
+
+        RemoveCourseCommand(String courseName, int row, CourseTableModel.Rows removed) {
+            this.name = "Remove " + courseName;
+            this.row = row;
+            this.removed = removed;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public void undo() {
+            courses.insertRows(row, removed);
+            stats.insert(courses, row);
+            adjustTableColumnWidths(row, row);
+            updateDisplay();
+        }
+
+        @Override
+        public void redo() {
+            stats.remove(courses, row);
+            courses.removeRow(row);
+            updateDisplay();
+        }
+    }
+
+    private class ClearCoursesCommand implements UndoLog.Command {
+        private final CourseTableModel.Rows cleared;
+
+        ClearCoursesCommand(CourseTableModel.Rows cleared) {
+            this.cleared = cleared;
+        }
+
+        @Override
+        public String name() {
+            return "Clear Courses";
+        }
+
+        @Override
+        public void undo() {
+            courses.insertRows(0, cleared);
+            computeStats(courses, stats);
+            adjustTableColumnWidths(0, Math.min(courses.size(), 100) - 1);
+            updateDisplay();
+        }
+
+        @Override
+        public void redo() {
+            courses.clear();
+            stats.reset();
+            adjustTableColumnWidths(0, -1);
+            updateDisplay();
+        }
+    }
+
+    private class AddSemesterCommand implements UndoLog.Command {
+        private final SemesterRecord record;
+
+        AddSemesterCommand(SemesterRecord record) {
+            this.record = record;
+        }
+
+        @Override
+        public String name() {
+            return "Add " + record.semester + " " + record.session;
+        }
+
+        @Override
+        public void undo() {
+            int last = semesters.size() - 1;
+            semesters.remove(last);
+            cumulative.removeLast();
+            if (semesterTableModel != null) {
+                semesterTableModel.removeRow(last);
+            }
+            updateSemesterSummary();
+        }
+
+        @Override
+        public void redo() {
+            addSemester(record);
+        }
+    }
+
+    private class ClearSemestersCommand implements UndoLog.Command {
+        private final List<SemesterRecord> cleared;
+
+        ClearSemestersCommand(List<SemesterRecord> cleared) {
+            this.cleared = cleared;
+        }
+
+        @Override
+        public String name() {
+            return "Clear Semesters";
+        }
+
+        @Override
+        public void undo() {
+            semesters.addAll(cleared);
+            updateSemesterDisplay();
+        }
+
+        @Override
+        public void redo() {
+            semesters.clear();
+            updateSemesterDisplay();
+        }
+    }
+
     private void showStyledMessage(String message, String title, int messageType) {
         JOptionPane.showMessageDialog(this, 
             "<html><div style='font-family: Segoe UI; font-size: 12pt; padding: 10px;'>" + message + "</div></html>",
             title,
             messageType);
     }
+
+    // Renders numeric course columns with one decimal, only when painted
+    private static class CourseCellRenderer extends DefaultTableCellRenderer {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected void setValue(Object value) {
+            if (value instanceof Double) {
+                setText(formatOneDecimal((Double) value));
+            } else {
+                super.setValue(value);
+            }
+        }
+    }
+
+    // Method to format a non-negative value with one decimal, like "%.1f"
+    static String formatOneDecimal(double value) {
+        long tenths = Math.round(value * 10);
+        return (tenths / 10) + "." + (tenths % 10);
+    }
     
     public static void main(String[] args) {
+        try {
+            GradingScale.initFromSystemProperty();
+        } catch (IOException ex) {
+            System.err.println("Could not load grading scale: " + ex.getMessage());
+        }
+        try {
+            CourseCatalog.initFromSystemProperty();
+        } catch (IOException ex) {
+            System.err.println("Could not load course catalog: " + ex.getMessage());
+        }
         SwingUtilities.invokeLater(() -> {
             try {
                 // Set modern look and feel
@@ -0,0 +1,156 @@
+package cgpa.calculator;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Results of /calculate, keyed by a fingerprint of the transcript graded.
+//
+// The portal asks for the same student's CGPA on every page view, so the
+// server keeps the last results it answered. A key is the (course, marks,
+// credits, isGEDS) rows after catalog credits are filled in, plus the
+// grading scale they were graded on. Scales are immutable, so the scale
+// instance is its own version: switching scale or changing any mark makes a
+// different key, and a stale result can never be returned; the old entry
+// just ages out. Keys compare every row, so two transcripts whose 64-bit
+// fingerprints collide are still told apart.
+//
+// Entries are evicted least recently used once there are more than the
+// capacity, -Dcgpa.cache.size (default 10000, 0 turns caching off), or once
+// they hold more course rows than -Dcgpa.cache.rows (default 250000). A key
+// and its response take a couple of hundred bytes per row, so the cache
+// stays around 50 MB however large the transcripts posted. Transcripts of
+// more than MAX_ROWS_PER_ENTRY courses are graded every time, so one large
+// body cannot push out thousands of ordinary students.
+final class CgpaResultCache {
+
+    static final int DEFAULT_CAPACITY = 10_000;
+    static final long DEFAULT_MAX_ROWS = 250_000;
+    static final int MAX_ROWS_PER_ENTRY = 256;
+
+    private static final Metrics.Counter HITS = Metrics.counter("cache.hits");
+    private static final Metrics.Counter MISSES = Metrics.counter("cache.misses");
+    private static final Metrics.Counter EVICTIONS = Metrics.counter("cache.evictions");
+
+    // One graded transcript
+    static final class Key {
+        private final GradingScale scale;
+        private final String[] courses;
+        private final double[] marks;
+        private final double[] credits;
+        private final boolean[] geds;
+        private final int hash;
+
+        int rows() {
+            return marks.length;
+        }
+
+        Key(GradingScale scale, String[] courses, double[] marks, double[] credits, boolean[] geds) {
+            this.scale = scale;
+            this.courses = courses;
+            this.marks = marks;
+            this.credits = credits;
+            this.geds = geds;
+            this.hash = fingerprint();
+        }
+
+        // Method to mix every row into a 64-bit fingerprint, folded to an int
+        private int fingerprint() {
+            long h = System.identityHashCode(scale);
+            for (int i = 0; i < marks.length; i++) {
+                h = mix(h, courses[i] == null ? 0 : courses[i].hashCode());
+                h = mix(h, Double.doubleToLongBits(marks[i]));
+                h = mix(h, Double.doubleToLongBits(credits[i]));
+                h = mix(h, geds[i] ? 1 : 0);
+            }
+            h ^= h >>> 33;
+            return (int) (h ^ (h >>> 32));
+        }
+
+        private static long mix(long h, long value) {
+            return (h ^ value) * 0x9E3779B97F4A7C15L;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return hash == key.hash && scale == key.scale
+                && Arrays.equals(marks, key.marks) && Arrays.equals(credits, key.credits)
+                && Arrays.equals(geds, key.geds) && Arrays.equals(courses, key.courses);
+        }
+    }
+
+    private final int capacity;
+    private final long maxRows;
+    // Access ordered, so the eldest entry is the least recently used
+    private final LinkedHashMap<Key, String> results = new LinkedHashMap<>(16, 0.75f, true);
+    private long rows;
+
+    CgpaResultCache(int capacity) {
+        this(capacity, DEFAULT_MAX_ROWS);
+    }
+
+    CgpaResultCache(int capacity, long maxRows) {
+        this.capacity = Math.max(capacity, 0);
+        this.maxRows = Math.max(maxRows, 0);
+    }
+
+    // Method to create a cache sized by -Dcgpa.cache.size and -Dcgpa.cache.rows
+    static CgpaResultCache fromSystemProperty() {
+        return new CgpaResultCache(Integer.getInteger("cgpa.cache.size", DEFAULT_CAPACITY),
+            Long.getLong("cgpa.cache.rows", DEFAULT_MAX_ROWS));
+    }
+
+    // Method to get the result for a transcript, or null if it is not cached
+    synchronized String get(Key key) {
+        String result = results.get(key);
+        if (Metrics.ENABLED) {
+            (result == null ? MISSES : HITS).increment();
+        }
+        return result;
+    }
+
+    // Method to remember a result, evicting the least recently used entries
+    // until both limits hold again
+    synchronized void put(Key key, String result) {
+        if (capacity == 0 || key.rows() > MAX_ROWS_PER_ENTRY || key.rows() > maxRows) {
+            return;
+        }
+        if (results.put(key, result) == null) {
+            rows += key.rows();
+        }
+        Iterator<Map.Entry<Key, String>> eldest = results.entrySet().iterator();
+        while (results.size() > capacity || rows > maxRows) {
+            rows -= eldest.next().getKey().rows();
+            eldest.remove();
+            if (Metrics.ENABLED) {
+                EVICTIONS.increment();
+            }
+        }
+    }
+
+    synchronized int size() {
+        return results.size();
+    }
+
+    // Method to get the course rows held across every entry
+    synchronized long rows() {
+        return rows;
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+}
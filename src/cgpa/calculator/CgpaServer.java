@@ -0,0 +1,289 @@
+package cgpa.calculator;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+// Serves the calculator over HTTP so the portal can reuse one warm JVM
+// instead of starting CgpaCalc for every student.
+//
+//   POST /calculate       {"courses": [{"course": "MTH101", "marks": 72, "credits": 3, "geds": false}, ...]}
+//   GET  /classify?cgpa=3.7
+//   GET  /grading-scale
+//
+// Every exchange runs on its own virtual thread. Grading reads the immutable
+// active GradingScale; the only shared mutable state is the result cache,
+// which answers a transcript already graded on that scale without grading
+// it again.
+public class CgpaServer {
+
+    static final int DEFAULT_PORT = 8080;
+
+    // Largest request body accepted by /calculate
+    private static final int MAX_BODY = 1 << 20;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final CgpaResultCache cache = CgpaResultCache.fromSystemProperty();
+
+    public CgpaServer(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(port), 0);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/calculate", exchange -> handle(exchange, "POST", this::calculate));
+        server.createContext("/classify", exchange -> handle(exchange, "GET", this::classify));
+        server.createContext("/grading-scale", exchange -> handle(exchange, "GET", this::gradingScale));
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.close();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    // An endpoint returns the JSON body of a 200 response; an IOException
+    // from it is answered with 400 and the exception message
+    private interface Endpoint {
+        String respond(HttpExchange exchange) throws IOException;
+    }
+
+    private void handle(HttpExchange exchange, String method, Endpoint endpoint) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals(method)) {
+                exchange.getResponseHeaders().set("Allow", method);
+                send(exchange, 405, error("Use " + method));
+                return;
+            }
+            String body;
+            try {
+                body = endpoint.respond(exchange);
+            } catch (IOException ex) {
+                send(exchange, 400, error(ex.getMessage()));
+                return;
+            }
+            send(exchange, 200, body);
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String error(String message) {
+        StringBuilder json = new StringBuilder("{\"error\":");
+        return Json.appendString(json, message).append('}').toString();
+    }
+
+    // Method to grade a list of courses, answering per-course grades and the CGPA
+    private String calculate(HttpExchange exchange) throws IOException {
+        byte[] body = exchange.getRequestBody().readNBytes(MAX_BODY + 1);
+        if (body.length > MAX_BODY) {
+            throw new IOException("Request body is larger than " + MAX_BODY + " bytes");
+        }
+        Object root = Json.parse(new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8));
+        if (root instanceof Map) {
+            root = ((Map<?, ?>) root).get("courses");
+        }
+        if (!(root instanceof List)) {
+            throw new IOException("Expected a JSON array of courses");
+        }
+        List<?> items = (List<?>) root;
+
+        int count = items.size();
+        String[] names = new String[count];
+        double[] marksList = new double[count];
+        double[] creditsList = new double[count];
+        boolean[] gedsList = new boolean[count];
+        for (int i = 0; i < count; i++) {
+            if (!(items.get(i) instanceof Map)) {
+                throw new IOException("Course " + (i + 1) + " is not an object");
+            }
+            Map<?, ?> course = (Map<?, ?>) items.get(i);
+            Object name = course.containsKey("course") ? course.get("course") : course.get("name");
+            double marks = Json.getNumber(course, "marks", Double.NaN);
+            double credits = Json.getNumber(course, "credits", Json.getNumber(course, "creditHours", Double.NaN));
+            boolean geds = Json.getFlag(course, "geds") || Json.getFlag(course, "isGEDS");
+            if (Double.isNaN(credits) && name != null) {
+                // Fall back to the catalog's credit hours for a known course
+                CourseCatalog.Entry entry = CourseCatalog.shared().lookup(name.toString().trim().toUpperCase());
+                if (entry != null && entry.hasCredits()) {
+                    credits = entry.credits();
+                    geds = entry.isGEDS();
+                }
+            }
+            if (!CgpaCalcGUI.isValidCredits(credits)) {
+                throw new IOException("Course " + (i + 1) + ": credits must be between 0 and 10");
+            }
+            names[i] = name == null ? null : name.toString();
+            marksList[i] = marks;
+            creditsList[i] = credits;
+            gedsList[i] = geds;
+        }
+
+        GradingScale scale = GradingScale.active();
+        CgpaResultCache.Key key = new CgpaResultCache.Key(scale, names, marksList, creditsList, gedsList);
+        String cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        String response = grade(scale, names, marksList, creditsList, gedsList);
+        cache.put(key, response);
+        return response;
+    }
+
+    // Method to grade parsed courses into the /calculate response
+    private static String grade(GradingScale scale, String[] names, double[] marksList,
+                                double[] creditsList, boolean[] gedsList) {
+        BatchCgpaCalc.StudentResult result = new BatchCgpaCalc.StudentResult(scale);
+        result.reset("");
+        StringBuilder json = new StringBuilder(128 + names.length * 80);
+        json.append("{\"scale\":");
+        Json.appendString(json, scale.getName());
+        json.append(",\"results\":[");
+        for (int i = 0; i < names.length; i++) {
+            double marks = marksList[i];
+            double credits = creditsList[i];
+            boolean geds = gedsList[i];
+            result.addCourse(marks, credits, geds);
+
+            int band = scale.band(marks);
+            json.append(i == 0 ? "{" : ",{").append("\"course\":");
+            Json.appendString(json, names[i]);
+            json.append(",\"marks\":");
+            Json.appendNumber(json, marks);
+            json.append(",\"credits\":");
+            Json.appendNumber(json, credits);
+            json.append(",\"grade\":");
+            Json.appendString(json, scale.letter(band));
+            json.append(",\"points\":");
+            Json.appendNumber(json, band == GradingScale.INVALID ? Double.NaN : scale.points(band));
+            json.append(",\"passed\":").append(scale.isPassed(band, geds)).append('}');
+        }
+        json.append("],\"courses\":").append(result.getCourses());
+        json.append(",\"passed\":").append(result.getPassed());
+        json.append(",\"failed\":").append(result.getFailed());
+        json.append(",\"invalid\":").append(result.getInvalid());
+        json.append(",\"creditHours\":");
+        Json.appendNumber(json, result.getTotalCreditHours());
+        json.append(",\"gradePoints\":");
+        Json.appendNumber(json, result.getTotalGradePoints());
+        json.append(",\"cgpa\":");
+        Json.appendNumber(json, round2(result.getCgpa()));
+        json.append(",\"percentage\":");
+        Json.appendNumber(json, round2(scale.toPercentage(result.getCgpa())));
+        json.append(",\"classification\":");
+        Json.appendString(json, result.getClassification());
+        return json.append('}').toString();
+    }
+
+    // Method to classify a CGPA given on the active scale
+    private String classify(HttpExchange exchange) throws IOException {
+        String value = queryParameter(exchange, "cgpa");
+        if (value == null) {
+            throw new IOException("Missing cgpa parameter");
+        }
+        double cgpa;
+        try {
+            cgpa = Double.parseDouble(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new IOException("Invalid cgpa: " + value);
+        }
+        GradingScale scale = GradingScale.active();
+        if (!(cgpa >= 0 && cgpa <= scale.getMaxPoints())) {
+            throw new IOException("cgpa must be between 0 and " + scale.getMaxPoints());
+        }
+        StringBuilder json = new StringBuilder(96);
+        json.append("{\"cgpa\":");
+        Json.appendNumber(json, cgpa);
+        json.append(",\"scale\":");
+        Json.appendString(json, scale.getName());
+        json.append(",\"classification\":");
+        Json.appendString(json, CgpaCalc.classifyPerformance(scale.toFivePoint(cgpa)));
+        return json.append('}').toString();
+    }
+
+    private String gradingScale(HttpExchange exchange) {
+        GradingScale scale = GradingScale.active();
+        StringBuilder json = new StringBuilder(256);
+        json.append("{\"name\":");
+        Json.appendString(json, scale.getName());
+        json.append(",\"max\":");
+        Json.appendNumber(json, scale.getMaxPoints());
+        json.append(",\"grades\":[");
+        for (int band = 0; band < scale.getBandCount(); band++) {
+            json.append(band == 0 ? "{" : ",{").append("\"grade\":");
+            Json.appendString(json, scale.letter(band));
+            json.append(",\"minMarks\":");
+            Json.appendNumber(json, scale.minMarks(band));
+            json.append(",\"maxMarks\":");
+            Json.appendNumber(json, scale.maxMarks(band));
+            json.append(",\"points\":");
+            Json.appendNumber(json, scale.points(band));
+            json.append('}');
+        }
+        json.append("],\"passRegular\":");
+        Json.appendString(json, scale.passingLetter(false));
+        json.append(",\"passGeds\":");
+        Json.appendString(json, scale.passingLetter(true));
+        return json.append('}').toString();
+    }
+
+    private static String queryParameter(HttpExchange exchange, String name) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = eq < 0 ? pair : pair.substring(0, eq);
+            if (URLDecoder.decode(key, StandardCharsets.UTF_8).equals(name)) {
+                return eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    private static double round2(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    public static void main(String[] args) throws IOException {
+        GradingScale.initFromSystemProperty();
+        CourseCatalog.initFromSystemProperty();
+        int port = DEFAULT_PORT;
+        if (args.length > 0) {
+            try {
+                port = Integer.parseInt(args[0]);
+            } catch (NumberFormatException ex) {
+                System.err.println("Usage: CgpaServer [port]");
+                System.exit(2);
+            }
+        }
+        CgpaServer server = new CgpaServer(port);
+        server.start();
+        System.out.println("CGPA service on port " + server.getPort() + " using the " + GradingScale.active().getName());
+    }
+}
@@ -0,0 +1,104 @@
+package cgpa.calculator;
+
+// Degree classes on the 5.0 scale with the advice shown for each, shared by
+// the console calculator, GUI, batch tool and server.
+//
+// A CGPA is classified through a table indexed by hundredths, so the lookup
+// is one array read whatever the class. Thresholds are multiples of 0.01;
+// a CGPA just below one whose hundredths round up onto it is corrected by
+// comparing against the threshold itself.
+public enum Classification {
+    FIRST_CLASS_DISTINCTION("First Class with Distinction", 4.5,
+        "Outstanding performance! Keep up the excellent work!",
+        "Outstanding! Maintain this excellence and consider advanced courses."),
+    FIRST_CLASS("First Class", 4.0,
+        "Excellent performance! You're doing great!",
+        "Excellent work! Keep up the good performance."),
+    SECOND_CLASS_UPPER("Second Class Upper", 3.5,
+        "Very good performance! Room for slight improvement.",
+        "Very good! Focus on improving weak areas for even better results."),
+    SECOND_CLASS_LOWER("Second Class Lower", 3.0,
+        "Good performance. Focus on weak areas.",
+        "Good performance. Review subjects where you scored below B."),
+    THIRD_CLASS("Third Class", 2.0,
+        "Satisfactory. Consider getting academic support.",
+        "Satisfactory. Consider seeking academic support or tutoring."),
+    PASS("Pass", 1.0,
+        "Needs significant improvement. Seek academic counseling.",
+        "Needs improvement. Please meet with your academic advisor."),
+    FAIL("Fail", Double.NEGATIVE_INFINITY,
+        "Critical situation. Please meet with your academic advisor.",
+        "Critical situation. Immediate academic counseling required.");
+
+    public static final int COUNT = values().length;
+
+    private static final Classification[] VALUES = values();
+    private static final byte[] BY_HUNDREDTH = new byte[501];
+
+    static {
+        for (int hundredths = 0; hundredths <= 500; hundredths++) {
+            int index = 0;
+            while (hundredths < Math.round(VALUES[index].minCgpa * 100)) {
+                index++;
+            }
+            BY_HUNDREDTH[hundredths] = (byte) index;
+        }
+    }
+
+    private final String label;
+    private final double minCgpa;
+    private final String advice;
+    private final String recommendation;
+
+    Classification(String label, double minCgpa, String advice, String recommendation) {
+        this.label = label;
+        this.minCgpa = minCgpa;
+        this.advice = advice;
+        this.recommendation = recommendation;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    // Method to get the lowest 5.0-scale CGPA in this class
+    public double minCgpa() {
+        return minCgpa;
+    }
+
+    // Method to get the advice printed by the console calculator
+    public String advice() {
+        return advice;
+    }
+
+    // Method to get the recommendation shown in the GUI results dialog
+    public String recommendation() {
+        return recommendation;
+    }
+
+    // Method to classify a CGPA on the 5.0 scale
+    public static Classification of(double cgpa5Scale) {
+        if (!(cgpa5Scale >= 0)) {
+            return FAIL;
+        }
+        if (cgpa5Scale >= 5.0) {
+            return FIRST_CLASS_DISTINCTION;
+        }
+        Classification classification = VALUES[BY_HUNDREDTH[(int) (cgpa5Scale * 100)]];
+        // cgpa * 100 can round up onto a threshold the CGPA is just below
+        if (cgpa5Scale < classification.minCgpa) {
+            classification = VALUES[classification.ordinal() + 1];
+        }
+        return classification;
+    }
+
+    // Method to get a classification back from its ordinal (0 is best)
+    public static Classification fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
@@ -0,0 +1,92 @@
+package cgpa.calculator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.BitSet;
+
+// On-heap cohort of course results in primitive columns.
+public final class Cohort implements CohortView {
+
+    private String[] studentIds = new String[64];
+    private long[] courseStarts = new long[65];
+    private double[] marks = new double[1024];
+    private double[] credits = new double[1024];
+    private final BitSet geds = new BitSet();
+    private int students;
+    private int courses;
+
+    // Method to load a registry result file; rows of a student must be contiguous
+    public static Cohort load(BufferedReader in) throws IOException {
+        Cohort cohort = new Cohort();
+        BatchCgpaCalc.readRows(in, (studentId, course, courseMarks, creditHours, gedsCourse) -> {
+            if (cohort.students == 0 || !studentId.equals(cohort.studentIds[cohort.students - 1])) {
+                cohort.addStudent(studentId);
+            }
+            cohort.addCourse(courseMarks, creditHours, gedsCourse);
+        });
+        return cohort;
+    }
+
+    // Method to start a new student; following courses belong to it
+    public void addStudent(String studentId) {
+        if (students == studentIds.length) {
+            studentIds = Arrays.copyOf(studentIds, students * 2);
+            courseStarts = Arrays.copyOf(courseStarts, students * 2 + 1);
+        }
+        studentIds[students] = studentId;
+        courseStarts[students] = courses;
+        students++;
+        courseStarts[students] = courses;
+    }
+
+    public void addCourse(double courseMarks, double creditHours, boolean gedsCourse) {
+        if (students == 0) {
+            throw new IllegalStateException("addStudent() must be called before addCourse()");
+        }
+        if (courses == marks.length) {
+            marks = Arrays.copyOf(marks, courses * 2);
+            credits = Arrays.copyOf(credits, courses * 2);
+        }
+        marks[courses] = courseMarks;
+        credits[courses] = creditHours;
+        geds.set(courses, gedsCourse);
+        courses++;
+        courseStarts[students] = courses;
+    }
+
+    @Override
+    public int studentCount() {
+        return students;
+    }
+
+    @Override
+    public long courseCount() {
+        return courses;
+    }
+
+    @Override
+    public String studentId(int student) {
+        return studentIds[student];
+    }
+
+    @Override
+    public long courseStart(int student) {
+        return courseStarts[student];
+    }
+
+    @Override
+    public double marks(long row) {
+        return marks[(int) row];
+    }
+
+    @Override
+    public double credits(long row) {
+        return credits[(int) row];
+    }
+
+    @Override
+    public boolean isGEDS(long row) {
+        return geds.get((int) row);
+    }
+}
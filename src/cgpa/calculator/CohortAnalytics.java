@@ -0,0 +1,189 @@
+package cgpa.calculator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Departmental statistics over a cohort, computed in parallel.
+//
+// Students are split into ranges on a ForkJoinPool; each leaf task fills its
+// own primitive Summary and partial summaries are merged on the way back up,
+// so workers never share mutable state.
+public final class CohortAnalytics {
+
+    // Students per leaf task
+    static final int THRESHOLD = 2048;
+
+    private static final Metrics.Histogram ANALYZE_TIME = Metrics.histogram("cohort.analyze");
+
+    private CohortAnalytics() {
+    }
+
+    public static final class Summary {
+        private int students;
+        private double cgpaSum;
+        private final long[] classCounts = new long[CgpaCalc.CLASSIFICATION_COUNT];
+        private long gedsCourses;
+        private long gedsPassed;
+        private long regularCourses;
+        private long regularPassed;
+        private long invalidCourses;
+
+        void merge(Summary other) {
+            students += other.students;
+            cgpaSum += other.cgpaSum;
+            for (int i = 0; i < classCounts.length; i++) {
+                classCounts[i] += other.classCounts[i];
+            }
+            gedsCourses += other.gedsCourses;
+            gedsPassed += other.gedsPassed;
+            regularCourses += other.regularCourses;
+            regularPassed += other.regularPassed;
+            invalidCourses += other.invalidCourses;
+        }
+
+        public int getStudents() {
+            return students;
+        }
+
+        public double getMeanCgpa() {
+            return students > 0 ? cgpaSum / students : 0;
+        }
+
+        // Method to count students in a classification, by classifyPerformanceIndex()
+        public long getClassCount(int classIndex) {
+            return classCounts[classIndex];
+        }
+
+        public long getGedsCourses() {
+            return gedsCourses;
+        }
+
+        public double getGedsPassRate() {
+            return gedsCourses > 0 ? (double) gedsPassed / gedsCourses : 0;
+        }
+
+        public long getRegularCourses() {
+            return regularCourses;
+        }
+
+        public double getRegularPassRate() {
+            return regularCourses > 0 ? (double) regularPassed / regularCourses : 0;
+        }
+
+        public long getInvalidCourses() {
+            return invalidCourses;
+        }
+    }
+
+    public static Summary analyze(CohortView cohort) {
+        return analyze(cohort, GradingScale.active(), ForkJoinPool.commonPool());
+    }
+
+    public static Summary analyze(CohortView cohort, GradingScale scale, ForkJoinPool pool) {
+        long start = Metrics.start();
+        Summary summary = pool.invoke(new AnalyzeTask(cohort, scale, 0, cohort.studentCount()));
+        if (Metrics.ENABLED) {
+            ANALYZE_TIME.recordSince(start);
+        }
+        return summary;
+    }
+
+    // Method to accumulate students [from, to) into summary
+    static void accumulate(CohortView cohort, GradingScale scale, int from, int to, Summary summary) {
+        for (int student = from; student < to; student++) {
+            double points = 0;
+            double credits = 0;
+            long end = cohort.courseStart(student + 1);
+            for (long row = cohort.courseStart(student); row < end; row++) {
+                int band = cohort.band(row, scale);
+                if (band == GradingScale.INVALID) {
+                    summary.invalidCourses++;
+                    continue;
+                }
+                double courseCredits = cohort.credits(row);
+                points += scale.points(band) * courseCredits;
+                credits += courseCredits;
+                boolean geds = cohort.isGEDS(row);
+                boolean passed = scale.isPassed(band, geds);
+                if (geds) {
+                    summary.gedsCourses++;
+                    if (passed) {
+                        summary.gedsPassed++;
+                    }
+                } else {
+                    summary.regularCourses++;
+                    if (passed) {
+                        summary.regularPassed++;
+                    }
+                }
+            }
+            double cgpa = credits > 0 ? points / credits : 0;
+            summary.students++;
+            summary.cgpaSum += cgpa;
+            summary.classCounts[CgpaCalc.classifyPerformanceIndex(scale.toFivePoint(cgpa))]++;
+        }
+    }
+
+    private static final class AnalyzeTask extends RecursiveTask<Summary> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient CohortView cohort;
+        private final transient GradingScale scale;
+        private final int from;
+        private final int to;
+
+        AnalyzeTask(CohortView cohort, GradingScale scale, int from, int to) {
+            this.cohort = cohort;
+            this.scale = scale;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Summary compute() {
+            if (to - from <= THRESHOLD) {
+                Summary summary = new Summary();
+                accumulate(cohort, scale, from, to, summary);
+                return summary;
+            }
+            int mid = (from + to) >>> 1;
+            AnalyzeTask left = new AnalyzeTask(cohort, scale, from, mid);
+            left.fork();
+            Summary summary = new AnalyzeTask(cohort, scale, mid, to).compute();
+            summary.merge(left.join());
+            return summary;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        GradingScale.initFromSystemProperty();
+        CourseCatalog.initFromSystemProperty();
+        if (args.length < 1) {
+            System.err.println("Usage: CohortAnalytics <results.csv|results.tsv>");
+            System.exit(2);
+        }
+        OffHeapCohortStore cohort;
+        try (BufferedReader in = Files.newBufferedReader(Paths.get(args[0]), StandardCharsets.UTF_8)) {
+            cohort = OffHeapCohortStore.load(in, GradingScale.active());
+        }
+        Summary summary = analyze(cohort);
+
+        System.out.println("=== COHORT SUMMARY ===");
+        System.out.printf("Students: %d%n", summary.getStudents());
+        System.out.printf("Mean CGPA: %.2f / %.2f%n", summary.getMeanCgpa(), GradingScale.active().getMaxPoints());
+        System.out.printf("GEDS pass rate: %.2f%% of %d courses%n", summary.getGedsPassRate() * 100, summary.getGedsCourses());
+        System.out.printf("Other pass rate: %.2f%% of %d courses%n", summary.getRegularPassRate() * 100, summary.getRegularCourses());
+        if (summary.getInvalidCourses() > 0) {
+            System.out.printf("Invalid courses skipped: %d%n", summary.getInvalidCourses());
+        }
+        System.out.println("\n=== CLASSIFICATION DISTRIBUTION ===");
+        for (int i = 0; i < CgpaCalc.CLASSIFICATION_COUNT; i++) {
+            System.out.printf("%-30s %d%n", CgpaCalc.getClassification(i), summary.getClassCount(i));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package cgpa.calculator;
+
+// Class rank and percentile of CGPAs within a cohort.
+//
+// CGPAs are counted in a Fenwick tree over hundredths from 0 to the
+// scale's maximum (501 buckets on the 5.0 scale), so adding, removing or
+// updating a student and asking for a rank are all O(log buckets) with a
+// few kilobytes of memory, whatever the cohort size. CGPAs are rounded to
+// hundredths exactly as ResultWriter.writeFixed prints them, so CGPAs that
+// print the same share a rank; CGPAs above the maximum count as the maximum.
+public final class CohortRanking {
+
+    private final double maxCgpa;
+    // tree[i] counts the CGPAs in a range of buckets ending at bucket i - 1
+    private final int[] tree;
+    private int size;
+
+    public CohortRanking(double maxCgpa) {
+        this.maxCgpa = maxCgpa;
+        this.tree = new int[(int) ResultWriter.roundHalfUp(maxCgpa, 2) + 2];
+    }
+
+    public synchronized void add(double cgpa) {
+        change(bucket(cgpa), 1);
+        size++;
+    }
+
+    public synchronized void remove(double cgpa) {
+        change(bucket(cgpa), -1);
+        size--;
+    }
+
+    // Method to move one student from oldCgpa to newCgpa
+    public synchronized void update(double oldCgpa, double newCgpa) {
+        int from = bucket(oldCgpa);
+        int to = bucket(newCgpa);
+        if (from != to) {
+            change(from, -1);
+            change(to, 1);
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    // Method to get the rank of a CGPA: 1 plus the students strictly above it
+    public synchronized int rank(double cgpa) {
+        return 1 + size - countAtOrBelow(bucket(cgpa));
+    }
+
+    // Method to get the share of the cohort at or below a CGPA, 0-100
+    public synchronized double percentile(double cgpa) {
+        return size == 0 ? 100 : 100.0 * countAtOrBelow(bucket(cgpa)) / size;
+    }
+
+    public double getMaxCgpa() {
+        return maxCgpa;
+    }
+
+    private int bucket(double cgpa) {
+        if (!(cgpa > 0)) {
+            return 0;
+        }
+        return (int) ResultWriter.roundHalfUp(Math.min(cgpa, maxCgpa), 2);
+    }
+
+    private void change(int bucket, int delta) {
+        for (int i = bucket + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    private int countAtOrBelow(int bucket) {
+        int count = 0;
+        for (int i = bucket + 1; i > 0; i -= i & -i) {
+            count += tree[i];
+        }
+        return count;
+    }
+}
@@ -0,0 +1,33 @@
+package cgpa.calculator;
+
+// Read-only columnar view of a cohort's course results.
+//
+// Students are numbered 0..studentCount()-1 and own the contiguous course
+// rows courseStart(s) until courseStart(s + 1); courseStart(studentCount())
+// is the total number of rows.
+public interface CohortView {
+
+    int studentCount();
+
+    long courseCount();
+
+    String studentId(int student);
+
+    long courseStart(int student);
+
+    double marks(long row);
+
+    double credits(long row);
+
+    boolean isGEDS(long row);
+
+    // Method to grade a row; stores that keep grades can answer without the marks
+    default int band(long row, GradingScale scale) {
+        return scale.band(marks(row));
+    }
+
+    // Method to get a row's course name; cohorts that do not keep names return ""
+    default String courseName(long row) {
+        return "";
+    }
+}
@@ -0,0 +1,185 @@
+package cgpa.calculator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Course codes shared by the GUI, transcript imports, the batch engine and
+// the server.
+//
+// Every code is interned once and given a dense int id, so a course table or
+// a result file that repeats the same few hundred codes millions of times
+// keeps one String per distinct code. Interning is safe from any thread:
+// lookups of known codes are a single ConcurrentHashMap read, and only new
+// codes take the lock.
+//
+// Codes listed in a catalog file (-Dcgpa.catalog=path) also carry a title,
+// default credit hours and GEDS flag, used to fill in courses entered or
+// imported without credit hours. Rows are (code, title, credits, isGEDS)
+// separated by commas or tabs; a header row is skipped. Codes are matched
+// exactly; the GUI and transcript imports upper-case them first.
+public final class CourseCatalog {
+
+    private static final CourseCatalog SHARED = new CourseCatalog();
+
+    // One course code; credits are NaN unless the catalog file lists them
+    public static final class Entry {
+        private final int id;
+        private final String code;
+        private final String title;
+        private final double credits;
+        private final boolean geds;
+
+        Entry(int id, String code, String title, double credits, boolean geds) {
+            this.id = id;
+            this.code = code;
+            this.title = title;
+            this.credits = credits;
+            this.geds = geds;
+        }
+
+        public int id() {
+            return id;
+        }
+
+        public String code() {
+            return code;
+        }
+
+        public String title() {
+            return title;
+        }
+
+        public boolean hasCredits() {
+            return !Double.isNaN(credits);
+        }
+
+        public double credits() {
+            return credits;
+        }
+
+        public boolean isGEDS() {
+            return geds;
+        }
+    }
+
+    private final Map<String, Entry> byCode = new ConcurrentHashMap<>();
+    // Written under the lock and republished through the volatile field, so
+    // an id read from byCode always finds its entry here
+    private volatile Entry[] byId = new Entry[256];
+    private int size;
+
+    public CourseCatalog() {
+    }
+
+    // Method to get the catalog used by every part of the application
+    public static CourseCatalog shared() {
+        return SHARED;
+    }
+
+    // Method to load the catalog file named by -Dcgpa.catalog, if any
+    public static void initFromSystemProperty() throws IOException {
+        String value = System.getProperty("cgpa.catalog");
+        if (value != null && !value.isBlank()) {
+            SHARED.load(Path.of(value.trim()));
+        }
+    }
+
+    // Method to get the entry for a code, adding it if it is new
+    public Entry intern(String code) {
+        Entry entry = byCode.get(code);
+        return entry != null ? entry : add(code, "", Double.NaN, false, false);
+    }
+
+    // Method to get the entry for a code, or null if it has never been seen
+    public Entry lookup(String code) {
+        return byCode.get(code);
+    }
+
+    // Method to add or replace a course with its catalog details; an
+    // already interned code keeps its id
+    public Entry define(String code, String title, double credits, boolean geds) {
+        return add(code, title, credits, geds, true);
+    }
+
+    public Entry entry(int id) {
+        return byId[id];
+    }
+
+    public String code(int id) {
+        return byId[id].code;
+    }
+
+    public int size() {
+        return byCode.size();
+    }
+
+    private synchronized Entry add(String code, String title, double credits, boolean geds, boolean replace) {
+        Entry existing = byCode.get(code);
+        if (existing != null && !replace) {
+            return existing;
+        }
+        Entry[] ids = byId;
+        int id;
+        if (existing != null) {
+            id = existing.id;
+            code = existing.code;
+        } else {
+            id = size++;
+            if (id == ids.length) {
+                ids = Arrays.copyOf(ids, id * 2);
+            }
+        }
+        Entry entry = new Entry(id, code, title, credits, geds);
+        ids[id] = entry;
+        byId = ids;
+        byCode.put(code, entry);
+        return entry;
+    }
+
+    // Method to read catalog rows from a file into this catalog
+    public void load(Path file) throws IOException {
+        try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            load(in);
+        }
+    }
+
+    public void load(BufferedReader in) throws IOException {
+        long lineNumber = 0;
+        String separator = null;
+        String line;
+        while ((line = in.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (separator == null) {
+                separator = line.indexOf('\t') >= 0 ? "\t" : ",";
+            }
+            String[] fields = line.split(separator, -1);
+            if (fields.length < 3) {
+                throw new IOException("Catalog line " + lineNumber + ": expected code, title and credits");
+            }
+            double credits;
+            try {
+                credits = Double.parseDouble(fields[2].trim());
+            } catch (NumberFormatException ex) {
+                if (lineNumber == 1) {
+                    continue; // Header row
+                }
+                throw new IOException("Catalog line " + lineNumber + ": invalid credit hours", ex);
+            }
+            String code = fields[0].trim();
+            if (code.isEmpty() || !CgpaCalcGUI.isValidCredits(credits)) {
+                throw new IOException("Catalog line " + lineNumber + ": invalid course '" + code + "'");
+            }
+            boolean geds = fields.length > 3 && BatchCgpaCalc.isYes(fields[3]);
+            define(code, fields[1].trim(), credits, geds);
+        }
+    }
+}
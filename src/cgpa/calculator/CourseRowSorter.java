@@ -0,0 +1,310 @@
+package cgpa.calculator;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.swing.RowSorter;
+import javax.swing.SortOrder;
+
+// Sorts and filters the course table on its primitive columns.
+//
+// A TableRowSorter would box every cell and compare through Comparators;
+// this sorter packs each row into a long, (sort key << 32) | model row, and
+// sorts the longs with Arrays.sort. Keys are typed: marks, credits and
+// points are fixed-point (1/10000), grades their band, courses the rank of
+// their code, so "100.0" sorts after "79.5". Ties keep model order in
+// either direction. The sorted permutation of each column and direction
+// is cached until the model changes, so flipping between columns does not
+// sort again; filtering walks the cached permutation.
+final class CourseRowSorter extends RowSorter<CourseTableModel> {
+
+    static final int ANY = -1;
+
+    private static final long ROW_MASK = 0xFFFFFFFFL;
+    private static final double FIXED_POINT = 10_000;
+
+    // Which rows to show; ANY leaves a column unfiltered
+    static final class Filter {
+        static final Filter NONE = new Filter(ANY, ANY, ANY, 0, 100);
+
+        final int band;
+        // 1 = passed/GEDS, 0 = failed/not GEDS
+        final int passed;
+        final int geds;
+        final double minMarks;
+        final double maxMarks;
+
+        Filter(int band, int passed, int geds, double minMarks, double maxMarks) {
+            this.band = band;
+            this.passed = passed;
+            this.geds = geds;
+            this.minMarks = minMarks;
+            this.maxMarks = maxMarks;
+        }
+
+        boolean isEmpty() {
+            return band == ANY && passed == ANY && geds == ANY && minMarks <= 0 && maxMarks >= 100;
+        }
+
+        boolean include(CourseTableModel model, int row) {
+            double marks = model.getMarks(row);
+            return (band == ANY || model.getBand(row) == band)
+                && (passed == ANY || model.isPassed(row) == (passed == 1))
+                && (geds == ANY || model.isGEDS(row) == (geds == 1))
+                && marks >= minMarks && marks <= maxMarks;
+        }
+    }
+
+    private CourseTableModel model;
+    private List<SortKey> sortKeys = Collections.emptyList();
+    private Filter filter = Filter.NONE;
+    private int modelRowCount;
+    // Null when rows are shown in model order, unfiltered
+    private int[] viewToModel;
+    private int[] modelToView;
+    // Sorted permutation per column, ascending then descending
+    private final int[][] permutations = new int[2 * CourseTableModel.COLUMN_COUNT][];
+
+    CourseRowSorter(CourseTableModel model) {
+        this.model = model;
+        modelRowCount = model.getRowCount();
+    }
+
+    // Method to sort another model with the same keys and filter; the table
+    // calls modelStructureChanged() once it has switched models too
+    void setModel(CourseTableModel newModel) {
+        model = newModel;
+    }
+
+    @Override
+    public CourseTableModel getModel() {
+        return model;
+    }
+
+    Filter getFilter() {
+        return filter;
+    }
+
+    void setFilter(Filter newFilter) {
+        filter = newFilter == null ? Filter.NONE : newFilter;
+        sort();
+    }
+
+    @Override
+    public void toggleSortOrder(int column) {
+        SortOrder order = SortOrder.ASCENDING;
+        if (!sortKeys.isEmpty() && sortKeys.get(0).getColumn() == column
+                && sortKeys.get(0).getSortOrder() == SortOrder.ASCENDING) {
+            order = SortOrder.DESCENDING;
+        }
+        setSortKeys(List.of(new SortKey(column, order)));
+    }
+
+    @Override
+    public List<? extends SortKey> getSortKeys() {
+        return sortKeys;
+    }
+
+    // Only the first key is used; ties keep model order
+    @Override
+    public void setSortKeys(List<? extends SortKey> keys) {
+        List<SortKey> newKeys = Collections.emptyList();
+        if (keys != null && !keys.isEmpty() && keys.get(0).getSortOrder() != SortOrder.UNSORTED) {
+            newKeys = List.of(keys.get(0));
+        }
+        if (!newKeys.equals(sortKeys)) {
+            sortKeys = newKeys;
+            fireSortOrderChanged();
+            sort();
+        }
+    }
+
+    @Override
+    public int convertRowIndexToModel(int index) {
+        if (viewToModel == null) {
+            if (index < 0 || index >= modelRowCount) {
+                throw new IndexOutOfBoundsException("Invalid index " + index);
+            }
+            return index;
+        }
+        return viewToModel[index];
+    }
+
+    @Override
+    public int convertRowIndexToView(int index) {
+        if (modelToView == null) {
+            if (index < 0 || index >= modelRowCount) {
+                throw new IndexOutOfBoundsException("Invalid index " + index);
+            }
+            return index;
+        }
+        return modelToView[index];
+    }
+
+    @Override
+    public int getViewRowCount() {
+        return viewToModel == null ? modelRowCount : viewToModel.length;
+    }
+
+    @Override
+    public int getModelRowCount() {
+        return modelRowCount;
+    }
+
+    @Override
+    public void modelStructureChanged() {
+        modelChanged();
+    }
+
+    @Override
+    public void allRowsChanged() {
+        modelChanged();
+    }
+
+    @Override
+    public void rowsInserted(int firstRow, int endRow) {
+        modelChanged();
+    }
+
+    @Override
+    public void rowsDeleted(int firstRow, int endRow) {
+        modelChanged();
+    }
+
+    @Override
+    public void rowsUpdated(int firstRow, int endRow) {
+        modelChanged();
+    }
+
+    @Override
+    public void rowsUpdated(int firstRow, int endRow, int column) {
+        modelChanged();
+    }
+
+    // Method to drop the cached permutations; rows in model order need no work
+    private void modelChanged() {
+        int previousRowCount = modelRowCount;
+        modelRowCount = model.getRowCount();
+        Arrays.fill(permutations, null);
+        if (isTransformed() || viewToModel != null) {
+            sort(previousRowCount);
+        }
+    }
+
+    private boolean isTransformed() {
+        return !sortKeys.isEmpty() || !filter.isEmpty();
+    }
+
+    private void sort() {
+        sort(modelRowCount);
+    }
+
+    // Method to rebuild the view from the cached or a fresh permutation
+    private void sort(int previousRowCount) {
+        int[] previous = viewToModel;
+        if (previous == null) {
+            previous = identity(Math.min(previousRowCount, modelRowCount));
+        }
+        if (!isTransformed()) {
+            viewToModel = null;
+            modelToView = null;
+            fireRowSorterChanged(previous);
+            return;
+        }
+
+        int[] order;
+        if (sortKeys.isEmpty()) {
+            order = identity(modelRowCount);
+        } else {
+            SortKey key = sortKeys.get(0);
+            order = permutation(key.getColumn(), key.getSortOrder() == SortOrder.DESCENDING);
+        }
+
+        int[] view = order;
+        if (!filter.isEmpty()) {
+            view = new int[modelRowCount];
+            int count = 0;
+            for (int row : order) {
+                if (filter.include(model, row)) {
+                    view[count++] = row;
+                }
+            }
+            view = Arrays.copyOf(view, count);
+        }
+        int[] inverse = new int[modelRowCount];
+        Arrays.fill(inverse, -1);
+        for (int i = 0; i < view.length; i++) {
+            inverse[view[i]] = i;
+        }
+        viewToModel = view;
+        modelToView = inverse;
+        fireRowSorterChanged(previous);
+    }
+
+    // Method to get the sorted model rows for a column, sorting on a cache miss
+    int[] permutation(int column, boolean descending) {
+        int slot = 2 * column + (descending ? 1 : 0);
+        int[] order = permutations[slot];
+        if (order != null) {
+            return order;
+        }
+        long[] packed = new long[modelRowCount];
+        int[] courseRanks = column == CourseTableModel.COL_COURSE ? courseRanks() : null;
+        for (int row = 0; row < modelRowCount; row++) {
+            int key = key(column, row, courseRanks);
+            if (descending) {
+                key = ~key;
+            }
+            packed[row] = ((long) key << 32) | row;
+        }
+        Arrays.sort(packed);
+        order = new int[modelRowCount];
+        for (int i = 0; i < modelRowCount; i++) {
+            order[i] = (int) (packed[i] & ROW_MASK);
+        }
+        permutations[slot] = order;
+        return order;
+    }
+
+    private int key(int column, int row, int[] courseRanks) {
+        switch (column) {
+            case CourseTableModel.COL_COURSE: return courseRanks[model.getCourseId(row)];
+            case CourseTableModel.COL_MARKS: return fixedPoint(model.getMarks(row));
+            case CourseTableModel.COL_CREDITS: return fixedPoint(model.getCredits(row));
+            case CourseTableModel.COL_GRADE: return model.getBand(row);
+            case CourseTableModel.COL_POINTS: return fixedPoint(model.getPoints(row));
+            case CourseTableModel.COL_STATUS: return model.isPassed(row) ? 1 : 0;
+            case CourseTableModel.COL_GEDS: return model.isGEDS(row) ? 1 : 0;
+            default: return row;
+        }
+    }
+
+    private static int fixedPoint(double value) {
+        return (int) Math.round(value * FIXED_POINT);
+    }
+
+    // Method to rank every catalog code alphabetically, indexed by course id
+    private static int[] courseRanks() {
+        CourseCatalog catalog = CourseCatalog.shared();
+        int size = catalog.size();
+        Integer[] ids = new Integer[size];
+        for (int id = 0; id < size; id++) {
+            ids[id] = id;
+        }
+        Arrays.sort(ids, (a, b) -> catalog.code(a).compareTo(catalog.code(b)));
+        int[] ranks = new int[size];
+        for (int rank = 0; rank < size; rank++) {
+            ranks[ids[rank]] = rank;
+        }
+        return ranks;
+    }
+
+    private static int[] identity(int size) {
+        int[] rows = new int[size];
+        for (int i = 0; i < size; i++) {
+            rows[i] = i;
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,279 @@
+package cgpa.calculator;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import javax.swing.table.AbstractTableModel;
+
+// Course table backed by primitive columns instead of Object[] rows.
+//
+// Values are handed to the table raw (numbers as Double, grades as their
+// constant letters); formatting happens in the cell renderer, so only rows
+// that are actually painted are ever turned into text. Course names are kept
+// as ids into the shared course catalog.
+class CourseTableModel extends AbstractTableModel {
+
+    private static final long serialVersionUID = 1L;
+
+    static final int COL_NO = 0;
+    static final int COL_COURSE = 1;
+    static final int COL_MARKS = 2;
+    static final int COL_CREDITS = 3;
+    static final int COL_GRADE = 4;
+    static final int COL_POINTS = 5;
+    static final int COL_STATUS = 6;
+    static final int COL_GEDS = 7;
+    static final int COLUMN_COUNT = 8;
+
+    private static final String[] COLUMNS = {"No.", "Course", "Marks", "Credits", "Grade", "Points", "Status", "GEDS"};
+
+    private final transient CourseCatalog catalog = CourseCatalog.shared();
+    private int[] courseIds = new int[16];
+    private double[] marks = new double[16];
+    private double[] credits = new double[16];
+    private byte[] grades = new byte[16];
+    private final BitSet geds = new BitSet();
+    private int size;
+    private transient GradingScale scale = GradingScale.active();
+
+    // Compact columnar copy of a run of rows, kept by undo for bulk edits
+    static final class Rows {
+        final int[] courseIds;
+        final double[] marks;
+        final double[] credits;
+        final BitSet geds;
+        final int size;
+
+        Rows(int[] courseIds, double[] marks, double[] credits, BitSet geds, int size) {
+            this.courseIds = courseIds;
+            this.marks = marks;
+            this.credits = credits;
+            this.geds = geds;
+            this.size = size;
+        }
+    }
+
+    GradingScale getScale() {
+        return scale;
+    }
+
+    // Method to regrade every course under another scale
+    void setScale(GradingScale newScale) {
+        scale = newScale;
+        for (int row = 0; row < size; row++) {
+            grades[row] = (byte) scale.band(marks[row]);
+        }
+        fireTableDataChanged();
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    String getName(int row) {
+        return catalog.code(courseIds[row]);
+    }
+
+    int getCourseId(int row) {
+        return courseIds[row];
+    }
+
+    double getMarks(int row) {
+        return marks[row];
+    }
+
+    double getCredits(int row) {
+        return credits[row];
+    }
+
+    // Method to get a course's band on the model's scale
+    int getBand(int row) {
+        return grades[row];
+    }
+
+    String getGradeLetter(int row) {
+        return scale.letter(grades[row]);
+    }
+
+    double getPoints(int row) {
+        return scale.points(grades[row]);
+    }
+
+    boolean isGEDS(int row) {
+        return geds.get(row);
+    }
+
+    boolean isPassed(int row) {
+        return scale.isPassed(grades[row], geds.get(row));
+    }
+
+    // Method to append a course, returns its row
+    int addCourse(String name, double courseMarks, double courseCredits, boolean isGEDS) {
+        int row = append(name, courseMarks, courseCredits, isGEDS);
+        fireTableRowsInserted(row, row);
+        return row;
+    }
+
+    // Method to append count courses at once, returns the first new row
+    int addCourses(String[] courseNames, double[] courseMarks, double[] courseCredits, boolean[] isGEDS, int count) {
+        int first = size;
+        for (int i = 0; i < count; i++) {
+            append(courseNames[i], courseMarks[i], courseCredits[i], isGEDS[i]);
+        }
+        if (count > 0) {
+            fireTableRowsInserted(first, size - 1);
+        }
+        return first;
+    }
+
+    // Method to append every course of another model, returns the first new row
+    int addAll(CourseTableModel other) {
+        int first = size;
+        for (int i = 0; i < other.size; i++) {
+            append(other.courseIds[i], other.marks[i], other.credits[i], other.geds.get(i));
+        }
+        if (other.size > 0) {
+            fireTableRowsInserted(first, size - 1);
+        }
+        return first;
+    }
+
+    // Method to copy rows from (inclusive) to to (exclusive)
+    Rows copyRows(int from, int to) {
+        return new Rows(Arrays.copyOfRange(courseIds, from, to), Arrays.copyOfRange(marks, from, to),
+            Arrays.copyOfRange(credits, from, to), geds.get(from, to), to - from);
+    }
+
+    // Method to insert copied rows before row, regrading them on the current scale
+    void insertRows(int row, Rows rows) {
+        int count = rows.size;
+        if (count == 0) {
+            return;
+        }
+        if (size + count > courseIds.length) {
+            int capacity = Math.max(courseIds.length * 2, size + count);
+            courseIds = Arrays.copyOf(courseIds, capacity);
+            marks = Arrays.copyOf(marks, capacity);
+            credits = Arrays.copyOf(credits, capacity);
+            grades = Arrays.copyOf(grades, capacity);
+        }
+        int tail = size - row;
+        System.arraycopy(courseIds, row, courseIds, row + count, tail);
+        System.arraycopy(marks, row, marks, row + count, tail);
+        System.arraycopy(credits, row, credits, row + count, tail);
+        System.arraycopy(grades, row, grades, row + count, tail);
+        for (int i = size - 1; i >= row; i--) {
+            geds.set(i + count, geds.get(i));
+        }
+        for (int i = 0; i < count; i++) {
+            courseIds[row + i] = rows.courseIds[i];
+            marks[row + i] = rows.marks[i];
+            credits[row + i] = rows.credits[i];
+            grades[row + i] = (byte) scale.band(rows.marks[i]);
+            geds.set(row + i, rows.geds.get(i));
+        }
+        size += count;
+        fireTableRowsInserted(row, row + count - 1);
+    }
+
+    // Method to drop every row from newSize on
+    void truncate(int newSize) {
+        if (newSize >= size) {
+            return;
+        }
+        int last = size - 1;
+        geds.clear(newSize, size);
+        size = newSize;
+        fireTableRowsDeleted(newSize, last);
+    }
+
+    private int append(String name, double courseMarks, double courseCredits, boolean isGEDS) {
+        return append(catalog.intern(name).id(), courseMarks, courseCredits, isGEDS);
+    }
+
+    private int append(int courseId, double courseMarks, double courseCredits, boolean isGEDS) {
+        if (size == courseIds.length) {
+            int capacity = size * 2;
+            courseIds = Arrays.copyOf(courseIds, capacity);
+            marks = Arrays.copyOf(marks, capacity);
+            credits = Arrays.copyOf(credits, capacity);
+            grades = Arrays.copyOf(grades, capacity);
+        }
+        int row = size++;
+        courseIds[row] = courseId;
+        marks[row] = courseMarks;
+        credits[row] = courseCredits;
+        grades[row] = (byte) scale.band(courseMarks);
+        geds.set(row, isGEDS);
+        return row;
+    }
+
+    void removeRow(int row) {
+        int tail = size - row - 1;
+        System.arraycopy(courseIds, row + 1, courseIds, row, tail);
+        System.arraycopy(marks, row + 1, marks, row, tail);
+        System.arraycopy(credits, row + 1, credits, row, tail);
+        System.arraycopy(grades, row + 1, grades, row, tail);
+        for (int i = row; i < size - 1; i++) {
+            geds.set(i, geds.get(i + 1));
+        }
+        size--;
+        geds.clear(size);
+        fireTableRowsDeleted(row, row);
+    }
+
+    void clear() {
+        if (size == 0) {
+            return;
+        }
+        int last = size - 1;
+        geds.clear();
+        size = 0;
+        fireTableRowsDeleted(0, last);
+    }
+
+    @Override
+    public int getRowCount() {
+        return size;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMNS[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        switch (column) {
+            case COL_NO: return Integer.class;
+            case COL_MARKS:
+            case COL_CREDITS:
+            case COL_POINTS: return Double.class;
+            default: return String.class;
+        }
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        switch (column) {
+            case COL_NO: return row + 1;
+            case COL_COURSE: return getName(row);
+            case COL_MARKS: return marks[row];
+            case COL_CREDITS: return credits[row];
+            case COL_GRADE: return getGradeLetter(row);
+            case COL_POINTS: return getPoints(row);
+            case COL_STATUS: return isPassed(row) ? "Pass" : "Fail";
+            case COL_GEDS: return geds.get(row) ? "Yes" : "No";
+            default: return null;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package cgpa.calculator;
+
+import java.util.Arrays;
+
+// Credit-weighted cumulative CGPA over a student's semesters.
+//
+// Keeps prefix sums of credits and grade points, so appending a semester
+// and asking for the cumulative CGPA after any semester are both O(1).
+final class CumulativeCgpa {
+
+    // prefixCredits[i] and prefixPoints[i] cover semesters 0..i-1
+    private double[] prefixCredits = new double[13];
+    private double[] prefixPoints = new double[13];
+    private int size;
+
+    // Method to append a semester's GPA and credit load
+    void add(double gpa, double credits) {
+        if (size + 1 == prefixCredits.length) {
+            prefixCredits = Arrays.copyOf(prefixCredits, prefixCredits.length * 2);
+            prefixPoints = Arrays.copyOf(prefixPoints, prefixPoints.length * 2);
+        }
+        prefixCredits[size + 1] = prefixCredits[size] + credits;
+        prefixPoints[size + 1] = prefixPoints[size] + gpa * credits;
+        size++;
+    }
+
+    // Method to drop the last semester
+    void removeLast() {
+        size--;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    // Method to get cumulative CGPA after semester index (0-based)
+    double cumulativeAt(int index) {
+        double credits = prefixCredits[index + 1];
+        return credits > 0 ? prefixPoints[index + 1] / credits : 0;
+    }
+
+    double cumulative() {
+        return size == 0 ? 0 : cumulativeAt(size - 1);
+    }
+
+    double totalCredits() {
+        return prefixCredits[size];
+    }
+}
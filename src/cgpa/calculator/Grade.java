@@ -0,0 +1,94 @@
+package cgpa.calculator;
+
+// Letter grades on the 5.0 scale, shared by the console and GUI calculators.
+//
+// Marks are graded through a table indexed by whole marks, so grading a course
+// is an array lookup and never allocates. Bands are half-open ([79, 80) is B),
+// which covers fractional marks such as 79.5.
+public enum Grade {
+    A("A", 5.0, 80),
+    B("B", 4.0, 60),
+    C("C", 3.0, 50),
+    D("D", 2.0, 45),
+    E("E", 1.0, 40),
+    F("F", 0.0, 0),
+    INVALID("Invalid", -1, Double.NaN);
+
+    // Minimum points needed to pass
+    public static final double GEDS_PASS_POINTS = 2.0;
+    public static final double REGULAR_PASS_POINTS = 3.0;
+
+    private static final Grade[] VALUES = values();
+    private static final byte[] BY_MARKS = new byte[101];
+
+    static {
+        for (int marks = 0; marks <= 100; marks++) {
+            Grade grade = A;
+            while (marks < grade.minMarks) {
+                grade = VALUES[grade.ordinal() + 1];
+            }
+            BY_MARKS[marks] = (byte) grade.ordinal();
+        }
+    }
+
+    private final String letter;
+    private final double points;
+    private final double minMarks;
+
+    Grade(String letter, double points, double minMarks) {
+        this.letter = letter;
+        this.points = points;
+        this.minMarks = minMarks;
+    }
+
+    public String letter() {
+        return letter;
+    }
+
+    public double points() {
+        return points;
+    }
+
+    // Method to get the lowest marks that earn this grade
+    public double minMarks() {
+        return minMarks;
+    }
+
+    public boolean isValid() {
+        return this != INVALID;
+    }
+
+    // Method to check if a course with this grade is passed
+    public boolean isPassed(boolean isGEDSCourse) {
+        return points >= (isGEDSCourse ? GEDS_PASS_POINTS : REGULAR_PASS_POINTS);
+    }
+
+    // Method to convert marks (0-100) to a grade
+    public static Grade fromMarks(double marks) {
+        if (!(marks >= 0 && marks <= 100)) {
+            return INVALID;
+        }
+        return VALUES[BY_MARKS[(int) marks]];
+    }
+
+    // Method to get a grade back from its byte ordinal
+    public static Grade fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    // Method to parse a grade letter, case-insensitive
+    public static Grade fromLetter(String letter) {
+        if (letter == null || letter.length() != 1) {
+            return INVALID;
+        }
+        switch (letter.charAt(0)) {
+            case 'A': case 'a': return A;
+            case 'B': case 'b': return B;
+            case 'C': case 'c': return C;
+            case 'D': case 'd': return D;
+            case 'E': case 'e': return E;
+            case 'F': case 'f': return F;
+            default: return INVALID;
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package cgpa.calculator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+// A faculty grading scale: grade bands by marks, points per grade and the
+// minimum grades to pass regular and GEDS courses.
+//
+// Scales are defined in properties files and compiled when loaded into a
+// table indexed by tenths of a mark, so grading a course under any scale is
+// an array lookup. Band boundaries must therefore be multiples of 0.1.
+//
+//   name=5.0 Scale
+//   max=5.0
+//   grades=A:80:5.0, B:60:4.0, C:50:3.0, D:45:2.0, E:40:1.0, F:0:0.0
+//   pass.regular=C
+//   pass.geds=D
+public final class GradingScale {
+
+    // Band returned for marks outside 0-100
+    public static final int INVALID = -1;
+
+    public static final GradingScale FIVE_POINT = fromGrades();
+
+    private static final Metrics.Counter GRADED = Metrics.counter("grading.graded");
+    private static final Metrics.Counter REJECTED = Metrics.counter("grading.invalid");
+
+    private static final String[] BUILT_IN = {"scale-4.properties", "scale-7.properties"};
+
+    private static volatile GradingScale active = FIVE_POINT;
+
+    private final String name;
+    private final double maxPoints;
+    private final String[] letters;
+    private final double[] minMarks;
+    private final double[] points;
+    private final double regularPassPoints;
+    private final double gedsPassPoints;
+    private final byte[] bandByTenth = new byte[1001];
+
+    private GradingScale(String name, double maxPoints, String[] letters, double[] minMarks, double[] points,
+                         double regularPassPoints, double gedsPassPoints) {
+        this.name = name;
+        this.maxPoints = maxPoints;
+        this.letters = letters;
+        this.minMarks = minMarks;
+        this.points = points;
+        this.regularPassPoints = regularPassPoints;
+        this.gedsPassPoints = gedsPassPoints;
+
+        for (int tenth = 0; tenth <= 1000; tenth++) {
+            int band = 0;
+            while (tenth < Math.round(minMarks[band] * 10)) {
+                band++;
+            }
+            bandByTenth[tenth] = (byte) band;
+        }
+    }
+
+    // The 5.0 scale as defined by the Grade enum
+    private static GradingScale fromGrades() {
+        int count = Grade.INVALID.ordinal();
+        String[] letters = new String[count];
+        double[] minMarks = new double[count];
+        double[] points = new double[count];
+        for (int i = 0; i < count; i++) {
+            Grade grade = Grade.fromOrdinal(i);
+            letters[i] = grade.letter();
+            minMarks[i] = grade.minMarks();
+            points[i] = grade.points();
+        }
+        return new GradingScale("5.0 Scale", 5.0, letters, minMarks, points,
+            Grade.REGULAR_PASS_POINTS, Grade.GEDS_PASS_POINTS);
+    }
+
+    // Method to get the scale used by the console, GUI and batch tools
+    public static GradingScale active() {
+        return active;
+    }
+
+    public static void setActive(GradingScale scale) {
+        active = scale;
+    }
+
+    // Method to load the scales shipped with the calculator, 5.0 first
+    public static List<GradingScale> builtIns() {
+        List<GradingScale> scales = new ArrayList<>();
+        scales.add(FIVE_POINT);
+        for (String resource : BUILT_IN) {
+            try (InputStream in = GradingScale.class.getResourceAsStream(resource)) {
+                if (in == null) {
+                    throw new IOException("Missing " + resource);
+                }
+                Properties properties = new Properties();
+                properties.load(in);
+                scales.add(fromProperties(properties));
+            } catch (IOException ex) {
+                throw new IllegalStateException("Cannot load built-in grading scale " + resource, ex);
+            }
+        }
+        return Collections.unmodifiableList(scales);
+    }
+
+    public static GradingScale load(Path file) throws IOException {
+        try (Reader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            Properties properties = new Properties();
+            properties.load(in);
+            return fromProperties(properties);
+        }
+    }
+
+    // Method to pick the startup scale from -Dcgpa.scale, either the name of
+    // a built-in scale or the path of a properties file
+    public static void initFromSystemProperty() throws IOException {
+        String value = System.getProperty("cgpa.scale");
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        for (GradingScale scale : builtIns()) {
+            if (scale.getName().equalsIgnoreCase(value.trim())) {
+                setActive(scale);
+                return;
+            }
+        }
+        setActive(load(Path.of(value.trim())));
+    }
+
+    public static GradingScale fromProperties(Properties properties) throws IOException {
+        String name = required(properties, "name");
+        double maxPoints = parseNumber(required(properties, "max"), "max");
+
+        String[] bands = required(properties, "grades").split(",");
+        String[] letters = new String[bands.length];
+        double[] minMarks = new double[bands.length];
+        double[] points = new double[bands.length];
+        for (int i = 0; i < bands.length; i++) {
+            String[] parts = bands[i].trim().split(":");
+            if (parts.length != 3 || parts[0].isBlank()) {
+                throw new IOException("Grade band must be letter:minMarks:points but was '" + bands[i].trim() + "'");
+            }
+            letters[i] = parts[0].trim();
+            minMarks[i] = parseNumber(parts[1], "minimum marks of " + letters[i]);
+            points[i] = parseNumber(parts[2], "points of " + letters[i]);
+            if (minMarks[i] * 10 != Math.rint(minMarks[i] * 10)) {
+                throw new IOException("Minimum marks of " + letters[i] + " must be a multiple of 0.1");
+            }
+            if (i > 0 && (minMarks[i] >= minMarks[i - 1] || points[i] > points[i - 1])) {
+                throw new IOException("Grades must be listed from highest to lowest marks and points");
+            }
+        }
+        if (minMarks[bands.length - 1] != 0) {
+            throw new IOException("The lowest grade must start at 0 marks");
+        }
+        if (minMarks[0] > 100) {
+            throw new IOException("Minimum marks cannot exceed 100");
+        }
+
+        double regularPass = points[indexOf(letters, required(properties, "pass.regular"))];
+        double gedsPass = points[indexOf(letters, required(properties, "pass.geds"))];
+        checkPassingPrefix(letters, points, regularPass);
+        checkPassingPrefix(letters, points, gedsPass);
+        return new GradingScale(name, maxPoints, letters, minMarks, points, regularPass, gedsPass);
+    }
+
+    // Method to check that the grades passing at passPoints are the highest
+    // ones, with no pass below a fail; the target GPA planner relies on it
+    private static void checkPassingPrefix(String[] letters, double[] points, double passPoints) throws IOException {
+        for (int i = 1; i < points.length; i++) {
+            if (points[i] >= passPoints && points[i - 1] < passPoints) {
+                throw new IOException("Grade " + letters[i] + " passes but the higher grade "
+                    + letters[i - 1] + " fails");
+            }
+        }
+    }
+
+    private static String required(Properties properties, String key) throws IOException {
+        String value = properties.getProperty(key);
+        if (value == null || value.isBlank()) {
+            throw new IOException("Grading scale is missing '" + key + "'");
+        }
+        return value.trim();
+    }
+
+    private static double parseNumber(String value, String what) throws IOException {
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new IOException("Invalid " + what + ": " + value.trim());
+        }
+    }
+
+    private static int indexOf(String[] letters, String letter) throws IOException {
+        for (int i = 0; i < letters.length; i++) {
+            if (letters[i].equalsIgnoreCase(letter)) {
+                return i;
+            }
+        }
+        throw new IOException("Unknown grade " + letter);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getMaxPoints() {
+        return maxPoints;
+    }
+
+    public int getBandCount() {
+        return letters.length;
+    }
+
+    // Method to grade marks, returning a band index (0 is the best grade) or INVALID
+    public int band(double marks) {
+        if (!(marks >= 0 && marks <= 100)) {
+            if (Metrics.ENABLED) {
+                REJECTED.increment();
+            }
+            return INVALID;
+        }
+        if (Metrics.ENABLED) {
+            GRADED.increment();
+        }
+        int band = bandByTenth[(int) (marks * 10)];
+        // marks * 10 can round up onto a boundary the marks are just below
+        if (marks < minMarks[band]) {
+            band++;
+        }
+        return band;
+    }
+
+    // Method to find the band of a grade letter, case-insensitive
+    public int bandOf(String letter) {
+        if (letter != null) {
+            for (int i = 0; i < letters.length; i++) {
+                if (letters[i].equalsIgnoreCase(letter)) {
+                    return i;
+                }
+            }
+        }
+        return INVALID;
+    }
+
+    public String letter(int band) {
+        return band == INVALID ? Grade.INVALID.letter() : letters[band];
+    }
+
+    public double points(int band) {
+        return band == INVALID ? -1 : points[band];
+    }
+
+    public double minMarks(int band) {
+        return minMarks[band];
+    }
+
+    // Method to get the highest marks of a band, for display
+    public double maxMarks(int band) {
+        return band == 0 ? 100 : minMarks[band - 1] - (isWhole(minMarks[band - 1]) ? 1 : 0.1);
+    }
+
+    public boolean isPassed(int band, boolean isGEDSCourse) {
+        return band != INVALID && points[band] >= (isGEDSCourse ? gedsPassPoints : regularPassPoints);
+    }
+
+    // Method to get the lowest grade letter that passes
+    public String passingLetter(boolean isGEDSCourse) {
+        double pass = isGEDSCourse ? gedsPassPoints : regularPassPoints;
+        int band = 0;
+        while (band + 1 < points.length && points[band + 1] >= pass) {
+            band++;
+        }
+        return letters[band];
+    }
+
+    public double passingPoints(boolean isGEDSCourse) {
+        return isGEDSCourse ? gedsPassPoints : regularPassPoints;
+    }
+
+    // Method to rescale a CGPA on this scale to the 5.0 scale used for classification
+    public double toFivePoint(double cgpa) {
+        return cgpa / maxPoints * 5.0;
+    }
+
+    // Method to rescale a 5.0-scale CGPA onto this scale
+    public double fromFivePoint(double cgpa5Scale) {
+        return cgpa5Scale / 5.0 * maxPoints;
+    }
+
+    public double toPercentage(double cgpa) {
+        return cgpa / maxPoints * 100;
+    }
+
+    // Method to describe a band's marks range, e.g. "60-79"
+    public String describeRange(int band) {
+        return formatMarks(minMarks(band)) + "-" + formatMarks(maxMarks(band));
+    }
+
+    private static boolean isWhole(double value) {
+        return value == Math.rint(value);
+    }
+
+    private static String formatMarks(double marks) {
+        return isWhole(marks) ? String.valueOf((long) marks) : String.valueOf(marks);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,282 @@
+package cgpa.calculator;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Minimal JSON reader for transcripts and requests, plus the two helpers
+// used to write JSON responses.
+//
+// Objects become LinkedHashMap, arrays ArrayList, numbers Double, plus
+// String, Boolean and null. Input is read through a small buffer rather
+// than copied into one large string first. Objects and arrays may nest at
+// most MAX_DEPTH deep, so a hostile body cannot overflow the stack.
+final class Json {
+
+    static final int MAX_DEPTH = 64;
+
+    private final Reader in;
+    private final char[] buffer = new char[8192];
+    private int pos;
+    private int limit;
+    private long offset;
+    private int depth;
+
+    private Json(Reader in) {
+        this.in = in;
+    }
+
+    static Object parse(Reader in) throws IOException {
+        Json json = new Json(in);
+        Object value = json.readValue();
+        if (json.skipWhitespace() != -1) {
+            throw json.error("Unexpected trailing content");
+        }
+        return value;
+    }
+
+    // Method to read the number of a field, or fallback when missing
+    static double getNumber(Map<?, ?> object, String key, double fallback) {
+        Object value = object.get(key);
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        if (value instanceof String) {
+            try {
+                return Double.parseDouble(((String) value).trim());
+            } catch (NumberFormatException ex) {
+                return Double.NaN;
+            }
+        }
+        return fallback;
+    }
+
+    // Method to read a yes/no field that may be a boolean, a number (1 is
+    // yes) or a string read like a CSV flag by BatchCgpaCalc.isYes
+    static boolean getFlag(Map<?, ?> object, String key) {
+        Object value = object.get(key);
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue() == 1;
+        }
+        if (value instanceof String) {
+            return BatchCgpaCalc.isYes((String) value);
+        }
+        return false;
+    }
+
+    // Method to append a string as a quoted JSON string
+    static StringBuilder appendString(StringBuilder out, String value) {
+        if (value == null) {
+            return out.append("null");
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': out.append("\\\""); break;
+                case '\\': out.append("\\\\"); break;
+                case '\n': out.append("\\n"); break;
+                case '\r': out.append("\\r"); break;
+                case '\t': out.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+            }
+        }
+        return out.append('"');
+    }
+
+    // Method to append a number; NaN and infinities have no JSON form and become null
+    static StringBuilder appendNumber(StringBuilder out, double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return out.append("null");
+        }
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return out.append((long) value);
+        }
+        return out.append(value);
+    }
+
+    private int peek() throws IOException {
+        if (pos == limit) {
+            offset += limit;
+            limit = in.read(buffer, 0, buffer.length);
+            pos = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[pos];
+    }
+
+    private int next() throws IOException {
+        int c = peek();
+        if (c != -1) {
+            pos++;
+        }
+        return c;
+    }
+
+    private int skipWhitespace() throws IOException {
+        int c = peek();
+        while (c == ' ' || c == '\t' || c == '\n' || c == '\r') {
+            pos++;
+            c = peek();
+        }
+        return c;
+    }
+
+    private Object readValue() throws IOException {
+        int c = skipWhitespace();
+        switch (c) {
+            case '{': return readObject();
+            case '[': return readArray();
+            case '"': return readString();
+            case 't': expectWord("true"); return Boolean.TRUE;
+            case 'f': expectWord("false"); return Boolean.FALSE;
+            case 'n': expectWord("null"); return null;
+            case -1: throw error("Unexpected end of input");
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    return readNumber();
+                }
+                throw error("Unexpected character '" + (char) c + "'");
+        }
+    }
+
+    private Map<String, Object> readObject() throws IOException {
+        Map<String, Object> object = new LinkedHashMap<>();
+        enter();
+        next(); // {
+        if (skipWhitespace() == '}') {
+            next();
+            depth--;
+            return object;
+        }
+        while (true) {
+            if (skipWhitespace() != '"') {
+                throw error("Expected field name");
+            }
+            String key = readString();
+            if (skipWhitespace() != ':') {
+                throw error("Expected ':'");
+            }
+            next();
+            object.put(key, readValue());
+            int c = skipWhitespace();
+            next();
+            if (c == '}') {
+                depth--;
+                return object;
+            }
+            if (c != ',') {
+                throw error("Expected ',' or '}'");
+            }
+        }
+    }
+
+    private List<Object> readArray() throws IOException {
+        List<Object> array = new ArrayList<>();
+        enter();
+        next(); // [
+        if (skipWhitespace() == ']') {
+            next();
+            depth--;
+            return array;
+        }
+        while (true) {
+            array.add(readValue());
+            int c = skipWhitespace();
+            next();
+            if (c == ']') {
+                depth--;
+                return array;
+            }
+            if (c != ',') {
+                throw error("Expected ',' or ']'");
+            }
+        }
+    }
+
+    private void enter() throws IOException {
+        if (++depth > MAX_DEPTH) {
+            throw error("Nested deeper than " + MAX_DEPTH + " levels");
+        }
+    }
+
+    private String readString() throws IOException {
+        next(); // opening quote
+        StringBuilder sb = new StringBuilder();
+        while (true) {
+            int c = next();
+            if (c == -1) {
+                throw error("Unterminated string");
+            }
+            if (c == '"') {
+                return sb.toString();
+            }
+            if (c != '\\') {
+                sb.append((char) c);
+                continue;
+            }
+            c = next();
+            switch (c) {
+                case '"': case '\\': case '/': sb.append((char) c); break;
+                case 'b': sb.append('\b'); break;
+                case 'f': sb.append('\f'); break;
+                case 'n': sb.append('\n'); break;
+                case 'r': sb.append('\r'); break;
+                case 't': sb.append('\t'); break;
+                case 'u':
+                    int code = 0;
+                    for (int i = 0; i < 4; i++) {
+                        int digit = Character.digit(next(), 16);
+                        if (digit < 0) {
+                            throw error("Invalid unicode escape");
+                        }
+                        code = code * 16 + digit;
+                    }
+                    sb.append((char) code);
+                    break;
+                default: throw error("Invalid escape");
+            }
+        }
+    }
+
+    private Double readNumber() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        int c = peek();
+        while (c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E' || (c >= '0' && c <= '9')) {
+            sb.append((char) c);
+            pos++;
+            c = peek();
+        }
+        try {
+            return Double.valueOf(sb.toString());
+        } catch (NumberFormatException ex) {
+            throw error("Invalid number " + sb);
+        }
+    }
+
+    private void expectWord(String word) throws IOException {
+        for (int i = 0; i < word.length(); i++) {
+            if (next() != word.charAt(i)) {
+                throw error("Expected " + word);
+            }
+        }
+    }
+
+    private IOException error(String message) {
+        return new IOException(message + " at character " + (offset + pos));
+    }
+}
@@ -0,0 +1,240 @@
+package cgpa.calculator;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+// Counters and latency histograms for the grading and display hot paths.
+//
+// Off unless the JVM is started with -Dcgpa.metrics=true. ENABLED is a
+// static final, so when it is false the JIT drops the guarded calls at the
+// instrumentation points entirely:
+//
+//   if (Metrics.ENABLED) {
+//       GRADED.increment();
+//   }
+//
+// When enabled, the registry is published over JMX as
+// cgpa.calculator:type=Metrics and a text dump is printed to stderr at exit.
+public final class Metrics {
+
+    public static final boolean ENABLED = Boolean.getBoolean("cgpa.metrics");
+
+    private static final Map<String, Counter> COUNTERS = new ConcurrentHashMap<>();
+    private static final Map<String, Histogram> HISTOGRAMS = new ConcurrentHashMap<>();
+
+    static {
+        if (ENABLED) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(new Bean(),
+                    new ObjectName("cgpa.calculator:type=Metrics"));
+            } catch (JMException ex) {
+                System.err.println("Cannot register metrics MBean: " + ex.getMessage());
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> System.err.print(report()), "metrics-dump"));
+        }
+    }
+
+    private Metrics() {
+    }
+
+    public static Counter counter(String name) {
+        return COUNTERS.computeIfAbsent(name, key -> new Counter());
+    }
+
+    // Method to get a histogram of latencies in nanoseconds
+    public static Histogram histogram(String name) {
+        return HISTOGRAMS.computeIfAbsent(name, key -> new Histogram());
+    }
+
+    // Method to start timing; pass the result to Histogram.recordSince
+    public static long start() {
+        return ENABLED ? System.nanoTime() : 0;
+    }
+
+    public static void reset() {
+        COUNTERS.values().forEach(Counter::reset);
+        HISTOGRAMS.values().forEach(Histogram::reset);
+    }
+
+    // Method to write every counter and histogram, sorted by name
+    public static void dump(Appendable out) throws IOException {
+        for (Map.Entry<String, Counter> entry : new TreeMap<>(COUNTERS).entrySet()) {
+            out.append(String.format("%-28s %d%n", entry.getKey(), entry.getValue().get()));
+        }
+        for (Map.Entry<String, Histogram> entry : new TreeMap<>(HISTOGRAMS).entrySet()) {
+            Histogram h = entry.getValue();
+            out.append(String.format("%-28s count=%d mean=%.1fus p50=%.1fus p99=%.1fus max=%.1fus%n",
+                entry.getKey(), h.getCount(), h.getMean() / 1000.0,
+                h.getPercentile(50) / 1000.0, h.getPercentile(99) / 1000.0, h.getMax() / 1000.0));
+        }
+    }
+
+    public static String report() {
+        StringBuilder sb = new StringBuilder("=== CGPA METRICS ===").append(System.lineSeparator());
+        try {
+            dump(sb);
+        } catch (IOException ex) {
+            throw new AssertionError(ex);
+        }
+        return sb.toString();
+    }
+
+    // A lock-free event counter
+    public static final class Counter {
+        private final LongAdder adder = new LongAdder();
+
+        public void increment() {
+            adder.increment();
+        }
+
+        public void add(long n) {
+            adder.add(n);
+        }
+
+        public long get() {
+            return adder.sum();
+        }
+
+        void reset() {
+            adder.reset();
+        }
+    }
+
+    // A lock-free log-linear histogram: values below 8 are exact, larger ones
+    // land in one of 8 linear sub-buckets per power of two, so a reported
+    // value is within 12.5% of the recorded one (the HdrHistogram layout at
+    // one significant binary digit of precision).
+    public static final class Histogram {
+        private static final int SUB_BITS = 3;
+        private static final int SUB_BUCKETS = 1 << SUB_BITS;
+        private static final int BUCKETS = (64 - SUB_BITS + 1) * SUB_BUCKETS;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sum = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        public void record(long value) {
+            long v = Math.max(value, 0);
+            buckets.incrementAndGet(index(v));
+            count.increment();
+            sum.add(v);
+            max.accumulate(v);
+        }
+
+        // Method to record the nanoseconds elapsed since Metrics.start()
+        public void recordSince(long startNanos) {
+            record(System.nanoTime() - startNanos);
+        }
+
+        static int index(long value) {
+            if (value < SUB_BUCKETS) {
+                return (int) value;
+            }
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+            return ((exponent - SUB_BITS + 1) << SUB_BITS) + sub;
+        }
+
+        // Method to get the highest value that falls in a bucket
+        static long highestValue(int index) {
+            if (index < SUB_BUCKETS) {
+                return index;
+            }
+            int exponent = (index >>> SUB_BITS) + SUB_BITS - 1;
+            long lowest = (long) (SUB_BUCKETS + (index & (SUB_BUCKETS - 1))) << (exponent - SUB_BITS);
+            return lowest + (1L << (exponent - SUB_BITS)) - 1;
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public double getMean() {
+            long n = count.sum();
+            return n == 0 ? 0 : (double) sum.sum() / n;
+        }
+
+        public long getMax() {
+            return max.get();
+        }
+
+        // Method to estimate a percentile (0-100) from the buckets
+        public long getPercentile(double percentile) {
+            long n = count.sum();
+            if (n == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(n * percentile / 100.0));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets.get(i);
+                if (seen >= rank) {
+                    return Math.min(highestValue(i), getMax());
+                }
+            }
+            return getMax();
+        }
+
+        void reset() {
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets.set(i, 0);
+            }
+            count.reset();
+            sum.reset();
+            max.reset();
+        }
+    }
+
+    // JMX view of the registry
+    public interface MetricsMXBean {
+        Map<String, Long> getCounters();
+
+        // Latency histograms as name.count, name.p50, name.p99 and name.max (nanoseconds)
+        Map<String, Long> getLatencies();
+
+        String getReport();
+
+        void reset();
+    }
+
+    private static final class Bean implements MetricsMXBean {
+        @Override
+        public Map<String, Long> getCounters() {
+            Map<String, Long> values = new TreeMap<>();
+            COUNTERS.forEach((name, counter) -> values.put(name, counter.get()));
+            return values;
+        }
+
+        @Override
+        public Map<String, Long> getLatencies() {
+            Map<String, Long> values = new TreeMap<>();
+            HISTOGRAMS.forEach((name, h) -> {
+                values.put(name + ".count", h.getCount());
+                values.put(name + ".p50", h.getPercentile(50));
+                values.put(name + ".p99", h.getPercentile(99));
+                values.put(name + ".max", h.getMax());
+            });
+            return values;
+        }
+
+        @Override
+        public String getReport() {
+            return report();
+        }
+
+        @Override
+        public void reset() {
+            Metrics.reset();
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package cgpa.calculator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Cohort of course results held outside the Java heap, for archives too big
+// to keep as objects.
+//
+// Every column lives in direct ByteBuffer blocks of up to BLOCK_ROWS entries,
+// so a cohort is one buffer per column per million rows and adds nothing for
+// the garbage collector to trace. The last block of a column starts small and
+// doubles as rows arrive, so a small cohort only allocates a few kilobytes.
+// Per course row it stores 9 bytes:
+//   i32  course id, dictionary-encoded (course names are kept once, on heap)
+//   u16  marks in tenths
+//   u16  credit hours in hundredths
+//   u8   band under the store's grading scale (low 7 bits, 127 = invalid),
+//        with the GEDS flag in the top bit
+// Marks and credits read back exactly as they were added. The rare value
+// that is not a whole number of tenths (hundredths for credits), or is out
+// of the u16 range, is kept in an on-heap map instead.
+// Students take 16 bytes each (first course row, name offset) plus their
+// UTF-8 id in a byte arena.
+public final class OffHeapCohortStore implements CohortView {
+
+    static final int BLOCK_SHIFT = 20;
+    static final int BLOCK_ROWS = 1 << BLOCK_SHIFT;
+
+    private static final int ROW_MASK = BLOCK_ROWS - 1;
+    private static final int INVALID_BAND = 0x7F;
+    private static final int GEDS_FLAG = 0x80;
+    // Marks or credits held in the overflow maps
+    private static final int INEXACT = 0xFFFF;
+    private static final int NAME_BLOCK_BYTES = 1 << 22;
+    private static final int FIRST_NAME_BYTES = 1 << 12;
+    private static final int FIRST_BLOCK_ROWS = 1 << 10;
+
+    private final GradingScale scale;
+
+    private final Column courseIds = new Column(4);
+    private final Column marks = new Column(2);
+    private final Column credits = new Column(2);
+    private final Column grades = new Column(1);
+    private final Column courseStarts = new Column(8);
+    private final Column nameOffsets = new Column(8);
+    private final List<ByteBuffer> names = new ArrayList<>();
+    private long nameEnd;
+    private final Map<Long, Double> inexactMarks = new HashMap<>();
+    private final Map<Long, Double> inexactCredits = new HashMap<>();
+
+    private final Map<String, Integer> courseDictionary = new HashMap<>();
+    private final List<String> courseNames = new ArrayList<>();
+
+    private int students;
+    private long courses;
+
+    public OffHeapCohortStore() {
+        this(GradingScale.active());
+    }
+
+    // Method to create a store that grades courses under scale as they are added
+    public OffHeapCohortStore(GradingScale scale) {
+        this.scale = scale;
+        courseStarts.ensure(0);
+        courseStarts.buffer(0).putLong(0, 0);
+    }
+
+    // Method to load a registry result file; rows of a student must be contiguous
+    public static OffHeapCohortStore load(BufferedReader in, GradingScale scale) throws IOException {
+        OffHeapCohortStore store = new OffHeapCohortStore(scale);
+        String[] last = {null};
+        BatchCgpaCalc.readRows(in, (studentId, course, courseMarks, creditHours, gedsCourse) -> {
+            if (!studentId.equals(last[0])) {
+                store.addStudent(studentId);
+                last[0] = studentId;
+            }
+            store.addCourse(course, courseMarks, creditHours, gedsCourse);
+        });
+        return store;
+    }
+
+    public GradingScale getScale() {
+        return scale;
+    }
+
+    // Method to start a new student; following courses belong to it
+    public void addStudent(String studentId) {
+        byte[] bytes = studentId.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("Student id is too long");
+        }
+        int block = (int) (nameEnd / NAME_BLOCK_BYTES);
+        int offset = (int) (nameEnd % NAME_BLOCK_BYTES);
+        if (offset + 2 + bytes.length > NAME_BLOCK_BYTES) {
+            // Ids never straddle two blocks
+            block++;
+            offset = 0;
+        }
+        if (block == names.size()) {
+            names.add(allocate(FIRST_NAME_BYTES));
+        }
+        ByteBuffer nameBlock = names.get(block);
+        if (offset + 2 + bytes.length > nameBlock.capacity()) {
+            int capacity = nameBlock.capacity();
+            while (offset + 2 + bytes.length > capacity) {
+                capacity *= 2;
+            }
+            nameBlock = grow(nameBlock, Math.min(capacity, NAME_BLOCK_BYTES));
+            names.set(block, nameBlock);
+        }
+        nameBlock.putShort(offset, (short) bytes.length);
+        nameBlock.put(offset + 2, bytes);
+        long nameOffset = (long) block * NAME_BLOCK_BYTES + offset;
+        nameEnd = nameOffset + 2 + bytes.length;
+
+        nameOffsets.ensure(students);
+        nameOffsets.buffer(students).putLong(nameOffsets.position(students), nameOffset);
+        students++;
+        courseStarts.ensure(students);
+        courseStarts.buffer(students).putLong(courseStarts.position(students), courses);
+    }
+
+    public void addCourse(String course, double courseMarks, double creditHours, boolean gedsCourse) {
+        if (students == 0) {
+            throw new IllegalStateException("addStudent() must be called before addCourse()");
+        }
+        long row = courses;
+        courseIds.ensure(row);
+        marks.ensure(row);
+        credits.ensure(row);
+        grades.ensure(row);
+
+        Integer id = courseDictionary.get(course);
+        if (id == null) {
+            id = courseNames.size();
+            courseDictionary.put(course, id);
+            courseNames.add(course);
+        }
+        int band = scale.band(courseMarks);
+        int tenths = fixedPoint(courseMarks, 10);
+        if (tenths == INEXACT) {
+            inexactMarks.put(row, courseMarks);
+        }
+        int hundredths = fixedPoint(creditHours, 100);
+        if (hundredths == INEXACT) {
+            inexactCredits.put(row, creditHours);
+        }
+
+        courseIds.buffer(row).putInt(courseIds.position(row), id);
+        marks.buffer(row).putShort(marks.position(row), (short) tenths);
+        credits.buffer(row).putShort(credits.position(row), (short) hundredths);
+        grades.buffer(row).put(grades.position(row),
+            (byte) ((band == GradingScale.INVALID ? INVALID_BAND : band) | (gedsCourse ? GEDS_FLAG : 0)));
+        courses++;
+        courseStarts.buffer(students).putLong(courseStarts.position(students), courses);
+    }
+
+    // Method to get a sink that adds every student and course it receives
+    public ResultSink loader() {
+        return new ResultSink() {
+            @Override
+            public void beginStudent(String studentId) {
+                addStudent(studentId);
+            }
+
+            @Override
+            public void course(BatchCgpaCalc.StudentResult student, String course, double courseMarks,
+                               double creditHours, boolean gedsCourse) {
+                addCourse(course, courseMarks, creditHours, gedsCourse);
+            }
+
+            @Override
+            public void endStudent(BatchCgpaCalc.StudentResult student) {
+            }
+        };
+    }
+
+    // Method to encode value in units of 1/scale, or INEXACT if that would not read back the same double
+    private static int fixedPoint(double value, int scale) {
+        long units = Math.round(value * scale);
+        if (units >= 0 && units < INEXACT && Double.compare(units / (double) scale, value) == 0) {
+            return (int) units;
+        }
+        return INEXACT;
+    }
+
+    @Override
+    public int studentCount() {
+        return students;
+    }
+
+    @Override
+    public long courseCount() {
+        return courses;
+    }
+
+    @Override
+    public String studentId(int student) {
+        long nameOffset = nameOffsets.buffer(student).getLong(nameOffsets.position(student));
+        ByteBuffer nameBlock = names.get((int) (nameOffset / NAME_BLOCK_BYTES));
+        int offset = (int) (nameOffset % NAME_BLOCK_BYTES);
+        byte[] bytes = new byte[nameBlock.getShort(offset) & 0xFFFF];
+        nameBlock.get(offset + 2, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public long courseStart(int student) {
+        return courseStarts.buffer(student).getLong(courseStarts.position(student));
+    }
+
+    @Override
+    public double marks(long row) {
+        int tenths = marks.buffer(row).getShort(marks.position(row)) & 0xFFFF;
+        return tenths == INEXACT ? inexactMarks.get(row) : tenths / 10.0;
+    }
+
+    @Override
+    public double credits(long row) {
+        int hundredths = credits.buffer(row).getShort(credits.position(row)) & 0xFFFF;
+        return hundredths == INEXACT ? inexactCredits.get(row) : hundredths / 100.0;
+    }
+
+    @Override
+    public boolean isGEDS(long row) {
+        return (grades.buffer(row).get(grades.position(row)) & GEDS_FLAG) != 0;
+    }
+
+    // Uses the stored band when asked for the store's own scale
+    @Override
+    public int band(long row, GradingScale gradingScale) {
+        if (gradingScale != scale) {
+            return gradingScale.band(marks(row));
+        }
+        int band = grades.buffer(row).get(grades.position(row)) & INVALID_BAND;
+        return band == INVALID_BAND ? GradingScale.INVALID : band;
+    }
+
+    @Override
+    public String courseName(long row) {
+        return courseNames.get(courseId(row));
+    }
+
+    public int courseId(long row) {
+        return courseIds.buffer(row).getInt(courseIds.position(row));
+    }
+
+    public int distinctCourses() {
+        return courseNames.size();
+    }
+
+    // Method to get the bytes allocated outside the heap
+    public long offHeapBytes() {
+        long bytes = courseIds.bytes() + marks.bytes() + credits.bytes() + grades.bytes()
+            + courseStarts.bytes() + nameOffsets.bytes();
+        for (ByteBuffer nameBlock : names) {
+            bytes += nameBlock.capacity();
+        }
+        return bytes;
+    }
+
+    private static ByteBuffer allocate(int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+
+    // Method to copy a block into a larger one
+    private static ByteBuffer grow(ByteBuffer block, int bytes) {
+        ByteBuffer grown = allocate(bytes);
+        grown.put(0, block, 0, block.capacity());
+        return grown;
+    }
+
+    // One fixed-width column in direct blocks of BLOCK_ROWS entries; rows are
+    // appended in order, and the last block doubles until it is full size
+    private static final class Column {
+        private final int width;
+        private ByteBuffer[] blocks = new ByteBuffer[4];
+        private int count;
+
+        Column(int width) {
+            this.width = width;
+        }
+
+        void ensure(long index) {
+            int block = (int) (index >>> BLOCK_SHIFT);
+            while (block >= count) {
+                if (count == blocks.length) {
+                    blocks = Arrays.copyOf(blocks, count * 2);
+                }
+                blocks[count] = allocate((count < block ? BLOCK_ROWS : FIRST_BLOCK_ROWS) * width);
+                count++;
+            }
+            int rows = blocks[block].capacity() / width;
+            if (position(index) / width >= rows) {
+                while (position(index) / width >= rows) {
+                    rows *= 2;
+                }
+                blocks[block] = grow(blocks[block], Math.min(rows, BLOCK_ROWS) * width);
+            }
+        }
+
+        ByteBuffer buffer(long index) {
+            return blocks[(int) (index >>> BLOCK_SHIFT)];
+        }
+
+        int position(long index) {
+            return ((int) index & ROW_MASK) * width;
+        }
+
+        long bytes() {
+            long bytes = 0;
+            for (int i = 0; i < count; i++) {
+                bytes += blocks[i].capacity();
+            }
+            return bytes;
+        }
+    }
+}
@@ -0,0 +1,536 @@
+package cgpa.calculator;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Parallel reader for large registry result files.
+//
+// BatchCgpaCalc.readRows decodes every line into a String and splits it into
+// more Strings before parsing the numbers. This reader memory-maps the file,
+// cuts it into line-aligned chunks and parses each chunk on a worker thread
+// straight from its bytes: marks and credit hours become doubles
+// without a String, course codes are matched on their bytes against the codes
+// the chunk has already interned, and only a new student id is decoded.
+// Workers grade each row too, so the reporting thread just adds up totals
+// and feeds the sink.
+//
+// Chunks are reported in file order, so the output is the same as readRows
+// gives, down to the line number of the first malformed row; a student whose
+// rows straddle two chunks is joined back together. Only a couple of chunks
+// per worker are parsed ahead of the sink, so memory stays bounded whatever
+// the file size. Lines end in \n or \r\n; unlike readRows, a lone \r is not
+// a line end, and bytes that are not valid UTF-8 are replaced rather than
+// failing with MalformedInputException.
+public final class ResultFileParser {
+
+    private static final Metrics.Counter STUDENTS = Metrics.counter("batch.students");
+
+    private static final long MIN_CHUNK = 1 << 18;
+    private static final long MAX_CHUNK = 1 << 22;
+    // Chunks parsed ahead of the sink, per worker
+    private static final int READ_AHEAD = 2;
+    private static final int PROBE_SIZE = 1 << 16;
+
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
+
+    private ResultFileParser() {
+    }
+
+    // The rows of one chunk, graded, in file order
+    private static final class Chunk {
+        int rows;
+        int[] courseIds;
+        double[] marks;
+        double[] credits;
+        int[] bands;
+        boolean[] geds;
+        // Each run of rows for one student, starting at studentStart
+        int students;
+        String[] studentIds = new String[16];
+        int[] studentStart = new int[16];
+        // Line within the chunk where each run starts
+        int[] studentLine = new int[16];
+        // Lines read, blank and header lines included
+        int lines;
+        // First malformed line within the chunk, 0 if none
+        int errorLine;
+        String error;
+        Throwable cause;
+
+        Chunk(int capacity) {
+            courseIds = new int[capacity];
+            marks = new double[capacity];
+            credits = new double[capacity];
+            bands = new int[capacity];
+            geds = new boolean[capacity];
+        }
+
+        void beginStudent(String studentId, int line) {
+            if (students == studentIds.length) {
+                studentIds = Arrays.copyOf(studentIds, students * 2);
+                studentStart = Arrays.copyOf(studentStart, students * 2);
+                studentLine = Arrays.copyOf(studentLine, students * 2);
+            }
+            studentIds[students] = studentId;
+            studentStart[students] = rows;
+            studentLine[students] = line;
+            students++;
+        }
+
+        void add(int courseId, double courseMarks, double creditHours, int band, boolean gedsCourse) {
+            if (rows == marks.length) {
+                int capacity = rows * 2;
+                courseIds = Arrays.copyOf(courseIds, capacity);
+                marks = Arrays.copyOf(marks, capacity);
+                credits = Arrays.copyOf(credits, capacity);
+                bands = Arrays.copyOf(bands, capacity);
+                geds = Arrays.copyOf(geds, capacity);
+            }
+            courseIds[rows] = courseId;
+            marks[rows] = courseMarks;
+            credits[rows] = creditHours;
+            bands[rows] = band;
+            geds[rows] = gedsCourse;
+            rows++;
+        }
+
+        void fail(int line, String message, Throwable ex) {
+            errorLine = line;
+            error = message;
+            cause = ex;
+        }
+    }
+
+    // Course codes seen in one chunk, keyed on their bytes, so a code the
+    // chunk has met before costs no String and no catalog lookup
+    private static final class CourseCodes {
+        private final CourseCatalog catalog;
+        private int[] hashes = new int[64];
+        private byte[][] keys = new byte[64][];
+        private CourseCatalog.Entry[] entries = new CourseCatalog.Entry[64];
+        private int size;
+
+        CourseCodes(CourseCatalog catalog) {
+            this.catalog = catalog;
+        }
+
+        CourseCatalog.Entry intern(byte[] buf, int start, int end) {
+            int hash = 1;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + buf[i];
+            }
+            int mask = keys.length - 1;
+            for (int slot = (hash ^ (hash >>> 16)) & mask; ; slot = (slot + 1) & mask) {
+                byte[] key = keys[slot];
+                if (key == null) {
+                    byte[] bytes = Arrays.copyOfRange(buf, start, end);
+                    CourseCatalog.Entry entry = catalog.intern(new String(bytes, StandardCharsets.UTF_8));
+                    put(hash, bytes, entry);
+                    return entry;
+                }
+                if (hashes[slot] == hash && matches(key, buf, start, end)) {
+                    return entries[slot];
+                }
+            }
+        }
+
+        private void put(int hash, byte[] key, CourseCatalog.Entry entry) {
+            if (2 * (size + 1) > keys.length) {
+                int[] oldHashes = hashes;
+                byte[][] oldKeys = keys;
+                CourseCatalog.Entry[] oldEntries = entries;
+                hashes = new int[oldKeys.length * 2];
+                keys = new byte[oldKeys.length * 2][];
+                entries = new CourseCatalog.Entry[oldKeys.length * 2];
+                for (int i = 0; i < oldKeys.length; i++) {
+                    if (oldKeys[i] != null) {
+                        insert(oldHashes[i], oldKeys[i], oldEntries[i]);
+                    }
+                }
+            }
+            insert(hash, key, entry);
+            size++;
+        }
+
+        private void insert(int hash, byte[] key, CourseCatalog.Entry entry) {
+            int mask = keys.length - 1;
+            int slot = (hash ^ (hash >>> 16)) & mask;
+            while (keys[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            hashes[slot] = hash;
+            keys[slot] = key;
+            entries[slot] = entry;
+        }
+
+        private static boolean matches(byte[] key, byte[] buf, int start, int end) {
+            if (key.length != end - start) {
+                return false;
+            }
+            for (int i = 0; i < key.length; i++) {
+                if (key[i] != buf[start + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    // Method to stream a result file into a sink like BatchCgpaCalc.report,
+    // parsing it on the given number of worker threads.
+    // Returns the number of students processed.
+    public static long report(Path file, int threads, ResultSink sink) throws IOException {
+        return report(file, threads, sink, true);
+    }
+
+    // Method to report a result file, counting its students in the
+    // batch.students metric only if counted
+    static long report(Path file, int threads, ResultSink sink, boolean counted) throws IOException {
+        GradingScale scale = GradingScale.active();
+        BatchCgpaCalc.StudentResult current = new BatchCgpaCalc.StudentResult(scale);
+        long students = 0;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer probe = ByteBuffer.allocate(PROBE_SIZE);
+            byte separator = findSeparator(channel, size, probe);
+            long chunkSize = Math.max(MIN_CHUNK, Math.min(MAX_CHUNK, size / (4L * threads)));
+
+            AtomicInteger workerCount = new AtomicInteger();
+            ExecutorService workers = Executors.newFixedThreadPool(threads, task -> {
+                Thread worker = new Thread(task, "result-parser-" + workerCount.incrementAndGet());
+                worker.setDaemon(true);
+                return worker;
+            });
+            ArrayDeque<Future<Chunk>> pending = new ArrayDeque<>();
+            long position = 0;
+            long lineBase = 0;
+            Set<String> seen = new HashSet<>();
+            try {
+                while (position < size || !pending.isEmpty()) {
+                    while (position < size && pending.size() < READ_AHEAD * threads) {
+                        long end = lineEnd(channel, Math.min(position + chunkSize, size), size, probe);
+                        ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, end - position);
+                        boolean firstChunk = position == 0;
+                        pending.add(workers.submit(() -> parse(buffer, firstChunk, separator, scale)));
+                        position = end;
+                    }
+
+                    Chunk chunk = await(pending.poll());
+                    students = feed(chunk, lineBase, seen, current, students, sink, counted);
+                    if (chunk.error != null) {
+                        throw new IOException("Line " + (lineBase + chunk.errorLine) + ": " + chunk.error, chunk.cause);
+                    }
+                    lineBase += chunk.lines;
+                }
+            } finally {
+                workers.shutdownNow();
+            }
+        }
+
+        if (students > 0) {
+            sink.endStudent(current);
+        }
+        return students;
+    }
+
+    // Method to report the rows of one chunk, continuing the student the
+    // previous chunk ended with; returns the students seen so far. A student
+    // already in seen fails like readRows, at the line its rows resume
+    private static long feed(Chunk chunk, long lineBase, Set<String> seen, BatchCgpaCalc.StudentResult current,
+                             long students, ResultSink sink, boolean counted) throws IOException {
+        CourseCatalog catalog = CourseCatalog.shared();
+        for (int s = 0; s < chunk.students; s++) {
+            String studentId = chunk.studentIds[s];
+            if (students == 0 || !studentId.equals(current.getStudentId())) {
+                if (!seen.add(studentId)) {
+                    throw new IOException("Line " + (lineBase + chunk.studentLine[s]) + ": rows of "
+                        + studentId + " are not contiguous");
+                }
+                if (students > 0) {
+                    sink.endStudent(current);
+                }
+                current.reset(studentId);
+                sink.beginStudent(studentId);
+                students++;
+                if (Metrics.ENABLED && counted) {
+                    STUDENTS.increment();
+                }
+            }
+            int end = s + 1 < chunk.students ? chunk.studentStart[s + 1] : chunk.rows;
+            for (int row = chunk.studentStart[s]; row < end; row++) {
+                current.addGraded(chunk.bands[row], chunk.credits[row], chunk.geds[row]);
+                sink.course(current, catalog.code(chunk.courseIds[row]), chunk.marks[row],
+                    chunk.credits[row], chunk.geds[row]);
+            }
+        }
+        return students;
+    }
+
+    private static Chunk await(Future<Chunk> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while parsing");
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    // Method to parse one chunk of whole lines, with the same rules as
+    // BatchCgpaCalc.readRows; parsing stops at the first malformed line.
+    // The mapped chunk is copied to the heap in one bulk copy, so the loop
+    // below reads a plain array
+    private static Chunk parse(ByteBuffer mapped, boolean firstChunk, byte separator, GradingScale scale) {
+        byte[] buf = new byte[mapped.remaining()];
+        mapped.get(0, buf);
+        CourseCodes codes = new CourseCodes(CourseCatalog.shared());
+        int limit = buf.length;
+        Chunk chunk = new Chunk(Math.max(16, limit / 24));
+        // Start and end of the first five fields
+        int[] fields = new int[10];
+        int idStart = -1;
+        int idEnd = -1;
+        int line = 0;
+        int pos = 0;
+
+        while (pos < limit) {
+            // Find the end of the line and split it in one pass
+            int count = 0;
+            int fieldStart = pos;
+            int end = pos;
+            for (; end < limit; end++) {
+                byte b = buf[end];
+                if (b == '\n') {
+                    break;
+                }
+                if (b == separator) {
+                    if (count < 5) {
+                        fields[2 * count] = fieldStart;
+                        fields[2 * count + 1] = end;
+                    }
+                    count++;
+                    fieldStart = end + 1;
+                }
+            }
+            int next = end + 1;
+            line++;
+            if (end > fieldStart && buf[end - 1] == '\r') {
+                end--;
+            }
+            if (isBlank(buf, pos, end)) {
+                pos = next;
+                continue;
+            }
+            if (count < 5) {
+                fields[2 * count] = fieldStart;
+                fields[2 * count + 1] = end;
+            }
+            count++;
+            if (count < 5) {
+                chunk.fail(line, "expected 5 fields but found " + count, null);
+                break;
+            }
+            for (int f = 0; f < 10; f += 2) {
+                while (fields[f] < fields[f + 1] && (buf[fields[f]] & 0xFF) <= ' ') {
+                    fields[f]++;
+                }
+                while (fields[f + 1] > fields[f] && (buf[fields[f + 1] - 1] & 0xFF) <= ' ') {
+                    fields[f + 1]--;
+                }
+            }
+
+            double marks;
+            double creditHours;
+            boolean noCredits = fields[6] == fields[7];
+            try {
+                marks = parseNumber(buf, fields[4], fields[5]);
+                creditHours = noCredits ? Double.NaN : parseNumber(buf, fields[6], fields[7]);
+            } catch (NumberFormatException ex) {
+                if (firstChunk && line == 1) {
+                    pos = next;
+                    continue; // Header row
+                }
+                chunk.fail(line, "invalid marks or credit hours", ex);
+                break;
+            }
+
+            CourseCatalog.Entry course = codes.intern(buf, fields[2], fields[3]);
+            boolean gedsCourse = isYes(buf, fields[8], fields[9]);
+            if (noCredits) {
+                if (!course.hasCredits()) {
+                    chunk.fail(line, "no credit hours and " + course.code() + " is not in the course catalog", null);
+                    break;
+                }
+                creditHours = course.credits();
+                gedsCourse = course.isGEDS();
+            }
+
+            if (idStart < 0 || !sameBytes(buf, idStart, idEnd, fields[0], fields[1])) {
+                idStart = fields[0];
+                idEnd = fields[1];
+                chunk.beginStudent(new String(buf, idStart, idEnd - idStart, StandardCharsets.UTF_8), line);
+            }
+            chunk.add(course.id(), marks, creditHours, scale.band(marks), gedsCourse);
+            pos = next;
+        }
+        chunk.lines = line;
+        return chunk;
+    }
+
+    // Method to parse a plain decimal like 72 or -72.5 straight from the
+    // bytes. With at most 15 digits the digits and the power of ten are both
+    // exact doubles, so one division rounds the same as Double.parseDouble;
+    // anything else (exponents, longer numbers, NaN) is left to parseDouble
+    private static double parseNumber(byte[] buf, int start, int end) {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (buf[i] == '-' || buf[i] == '+')) {
+            negative = buf[i] == '-';
+            i++;
+        }
+        long digits = 0;
+        int digitCount = 0;
+        int decimals = -1;
+        for (; i < end; i++) {
+            byte b = buf[i];
+            if (b >= '0' && b <= '9') {
+                digits = digits * 10 + (b - '0');
+                digitCount++;
+                if (decimals >= 0) {
+                    decimals++;
+                }
+            } else if (b == '.' && decimals < 0) {
+                decimals = 0;
+            } else {
+                break;
+            }
+        }
+        if (i < end || digitCount == 0 || digitCount > 15) {
+            return Double.parseDouble(new String(buf, start, end - start, StandardCharsets.UTF_8));
+        }
+        double value = decimals > 0 ? digits / POWERS_OF_TEN[decimals] : digits;
+        return negative ? -value : value;
+    }
+
+    // Method to match BatchCgpaCalc.isYes on a trimmed field
+    private static boolean isYes(byte[] buf, int start, int end) {
+        return equalsIgnoreCase(buf, start, end, "yes") || equalsIgnoreCase(buf, start, end, "y")
+            || equalsIgnoreCase(buf, start, end, "true") || equalsIgnoreCase(buf, start, end, "1");
+    }
+
+    private static boolean equalsIgnoreCase(byte[] buf, int start, int end, String lowerCase) {
+        if (end - start != lowerCase.length()) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            int b = buf[i];
+            if (b >= 'A' && b <= 'Z') {
+                b += 'a' - 'A';
+            }
+            if (b != lowerCase.charAt(i - start)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean sameBytes(byte[] buf, int start, int end, int otherStart, int otherEnd) {
+        if (end - start != otherEnd - otherStart) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (buf[i] != buf[otherStart + i - start]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Method to match String.isBlank for ASCII lines
+    private static boolean isBlank(byte[] buf, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!isWhitespace(buf[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWhitespace(int b) {
+        return b == ' ' || (b >= '\t' && b <= '\r') || (b >= 0x1C && b <= 0x1F);
+    }
+
+    // Method to find the end of the line running through position - 1, so a
+    // chunk ending there holds whole lines
+    private static long lineEnd(FileChannel channel, long position, long size, ByteBuffer probe) throws IOException {
+        long offset = position - 1;
+        while (offset < size) {
+            probe.clear();
+            int read = channel.read(probe, offset);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return offset + i + 1;
+                }
+            }
+            offset += read;
+        }
+        return size;
+    }
+
+    // Method to pick the separator the way readRows does: tab if the first
+    // non-blank line has one, otherwise comma
+    private static byte findSeparator(FileChannel channel, long size, ByteBuffer probe) throws IOException {
+        boolean content = false;
+        boolean tab = false;
+        long offset = 0;
+        while (offset < size) {
+            probe.clear();
+            int read = channel.read(probe, offset);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                byte b = probe.get(i);
+                if (b == '\n') {
+                    if (content) {
+                        return tab ? (byte) '\t' : (byte) ',';
+                    }
+                    tab = false;
+                } else {
+                    content |= !isWhitespace(b);
+                    tab |= b == '\t';
+                }
+            }
+            offset += read;
+        }
+        return content && tab ? (byte) '\t' : (byte) ',';
+    }
+}
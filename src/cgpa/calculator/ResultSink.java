@@ -0,0 +1,18 @@
+package cgpa.calculator;
+
+import java.io.IOException;
+
+// Receives batch results as BatchCgpaCalc streams through a result file:
+// beginStudent, one course call per row, then endStudent with the totals.
+// The StudentResult passed in is reused between students.
+public interface ResultSink {
+
+    default void beginStudent(String studentId) throws IOException {
+    }
+
+    default void course(BatchCgpaCalc.StudentResult student, String course, double marks,
+                        double creditHours, boolean gedsCourse) throws IOException {
+    }
+
+    void endStudent(BatchCgpaCalc.StudentResult student) throws IOException;
+}
@@ -0,0 +1,150 @@
+package cgpa.calculator;
+
+import java.io.IOException;
+
+// The batch output formats, all writing through a ResultWriter:
+//   csv    one line per student (the original BatchCgpaCalc output)
+//   jsonl  one JSON object per student per line
+//   text   a human-readable report laid out like the console calculator
+// Given a CohortRanking of the whole file, each format also reports the
+// student's class rank and percentile.
+public final class ResultSinks {
+
+    public static final String[] FORMATS = {"csv", "jsonl", "text"};
+
+    static final String CSV_HEADER = "studentId,courses,passed,failed,invalid,creditHours,gradePoints,cgpa,classification";
+    static final String CSV_RANK_HEADER = ",rank,percentile";
+
+    private ResultSinks() {
+    }
+
+    // Method to create the sink for a format name, writing any header first
+    public static ResultSink create(String format, ResultWriter out) throws IOException {
+        return create(format, out, null);
+    }
+
+    // Method to create a sink that also ranks each student in ranking, if not null
+    public static ResultSink create(String format, ResultWriter out, CohortRanking ranking) throws IOException {
+        switch (format.toLowerCase()) {
+            case "csv": return new CsvSink(out, ranking);
+            case "jsonl": return new JsonLinesSink(out, ranking);
+            case "text": return new TextSink(out, ranking);
+            default: throw new IllegalArgumentException("Unknown format " + format + ", expected csv, jsonl or text");
+        }
+    }
+
+    static final class CsvSink implements ResultSink {
+        private final ResultWriter out;
+        private final CohortRanking ranking;
+
+        CsvSink(ResultWriter out, CohortRanking ranking) throws IOException {
+            this.out = out;
+            this.ranking = ranking;
+            out.write(CSV_HEADER);
+            if (ranking != null) {
+                out.write(CSV_RANK_HEADER);
+            }
+            out.newLine();
+        }
+
+        @Override
+        public void endStudent(BatchCgpaCalc.StudentResult student) throws IOException {
+            out.writeCsvField(student.getStudentId()).write(',');
+            out.write(student.getCourses()).write(',');
+            out.write(student.getPassed()).write(',');
+            out.write(student.getFailed()).write(',');
+            out.write(student.getInvalid()).write(',');
+            out.writeFixed(student.getTotalCreditHours(), 2).write(',');
+            out.writeFixed(student.getTotalGradePoints(), 2).write(',');
+            out.writeFixed(student.getCgpa(), 2).write(',');
+            out.writeCsvField(student.getClassification());
+            if (ranking != null) {
+                out.write(',').write(ranking.rank(student.getCgpa()));
+                out.write(',').writeFixed(ranking.percentile(student.getCgpa()), 1);
+            }
+            out.newLine();
+        }
+    }
+
+    static final class JsonLinesSink implements ResultSink {
+        private final ResultWriter out;
+        private final CohortRanking ranking;
+
+        JsonLinesSink(ResultWriter out, CohortRanking ranking) {
+            this.out = out;
+            this.ranking = ranking;
+        }
+
+        @Override
+        public void endStudent(BatchCgpaCalc.StudentResult student) throws IOException {
+            out.write("{\"studentId\":").writeJsonString(student.getStudentId());
+            out.write(",\"courses\":").write(student.getCourses());
+            out.write(",\"passed\":").write(student.getPassed());
+            out.write(",\"failed\":").write(student.getFailed());
+            out.write(",\"invalid\":").write(student.getInvalid());
+            out.write(",\"creditHours\":").writeFixed(student.getTotalCreditHours(), 2);
+            out.write(",\"gradePoints\":").writeFixed(student.getTotalGradePoints(), 2);
+            out.write(",\"cgpa\":").writeFixed(student.getCgpa(), 2);
+            out.write(",\"classification\":").writeJsonString(student.getClassification());
+            if (ranking != null) {
+                out.write(",\"rank\":").write(ranking.rank(student.getCgpa()));
+                out.write(",\"percentile\":").writeFixed(ranking.percentile(student.getCgpa()), 1);
+            }
+            out.write('}').newLine();
+        }
+    }
+
+    static final class TextSink implements ResultSink {
+        private final ResultWriter out;
+        private final CohortRanking ranking;
+
+        TextSink(ResultWriter out, CohortRanking ranking) {
+            this.out = out;
+            this.ranking = ranking;
+        }
+
+        @Override
+        public void beginStudent(String studentId) throws IOException {
+            out.write("=== STUDENT ").write(studentId).write(" ===").newLine();
+        }
+
+        @Override
+        public void course(BatchCgpaCalc.StudentResult student, String course, double marks,
+                           double creditHours, boolean gedsCourse) throws IOException {
+            GradingScale scale = student.getScale();
+            int band = scale.band(marks);
+            out.write("Course: ").write(course).newLine();
+            if (band == GradingScale.INVALID) {
+                out.write("Invalid marks: ").writeFixed(marks, 1).newLine().newLine();
+                return;
+            }
+            double points = scale.points(band);
+            out.write("Marks: ").writeFixed(marks, 1).newLine();
+            out.write("Grade: ").write(scale.letter(band)).write(" (").writeFixed(points, 1)
+                .write(" points on ").write(scale.getName()).write(')').newLine();
+            out.write("Credit Hours: ").writeFixed(creditHours, 1).newLine();
+            out.write("Status: ").write(scale.isPassed(band, gedsCourse) ? "PASSED" : "FAILED").newLine();
+            out.write("Points Earned: ").writeFixed(points * creditHours, 2).newLine().newLine();
+        }
+
+        @Override
+        public void endStudent(BatchCgpaCalc.StudentResult student) throws IOException {
+            GradingScale scale = student.getScale();
+            out.write("=== FINAL RESULT ===").newLine();
+            out.write("Total Courses: ").write(student.getCourses()).newLine();
+            out.write("Courses Passed: ").write(student.getPassed()).newLine();
+            out.write("Courses Failed: ").write(student.getFailed()).newLine();
+            out.write("Total Credit Hours: ").writeFixed(student.getTotalCreditHours(), 2).newLine();
+            out.write("Total Grade Points: ").writeFixed(student.getTotalGradePoints(), 2).newLine();
+            out.write("CGPA: ").writeFixed(student.getCgpa(), 2).write(" / ").writeFixed(scale.getMaxPoints(), 2).newLine();
+            out.write("Percentage Equivalent: ").writeFixed(scale.toPercentage(student.getCgpa()), 2).write('%').newLine();
+            out.write("Classification: ").write(student.getClassification()).newLine();
+            if (ranking != null) {
+                out.write("Class Rank: ").write(ranking.rank(student.getCgpa()))
+                    .write(" of ").write(ranking.size()).newLine();
+                out.write("Percentile: ").writeFixed(ranking.percentile(student.getCgpa()), 1).newLine();
+            }
+            out.write("==================================================").newLine();
+        }
+    }
+}
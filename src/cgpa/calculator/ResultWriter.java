@@ -0,0 +1,201 @@
+package cgpa.calculator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+// Buffered text output for batch results, written straight to a channel.
+//
+// Numbers are formatted into the buffer digit by digit instead of through
+// String.format, and the buffer only reaches the channel once it is full,
+// so emitting a field costs a few array stores. Not thread-safe.
+public final class ResultWriter implements Closeable {
+
+    static final int BUFFER_SIZE = 1 << 20;
+
+    private static final long[] POWERS_OF_TEN = {
+        1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000, 1_000_000_000
+    };
+
+    // Scaled values below FAST_LIMIT are exact to well within TIE_MARGIN
+    private static final double FAST_LIMIT = 1e9;
+    private static final double TIE_MARGIN = 1e-5;
+
+    private final WritableByteChannel channel;
+    private final byte[] buffer;
+    private final ByteBuffer view;
+    private int pos;
+
+    public ResultWriter(WritableByteChannel channel) {
+        this(channel, BUFFER_SIZE);
+    }
+
+    ResultWriter(WritableByteChannel channel, int bufferSize) {
+        this.channel = channel;
+        this.buffer = new byte[Math.max(bufferSize, 64)];
+        this.view = ByteBuffer.wrap(buffer);
+    }
+
+    // Method to write text, encoding anything outside ASCII as UTF-8
+    public ResultWriter write(String text) throws IOException {
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= 0x80) {
+                writeBytes(text.substring(i).getBytes(StandardCharsets.UTF_8));
+                return this;
+            }
+            if (pos == buffer.length) {
+                flush();
+            }
+            buffer[pos++] = (byte) c;
+        }
+        return this;
+    }
+
+    // Method to write one ASCII character
+    public ResultWriter write(char c) throws IOException {
+        if (pos == buffer.length) {
+            flush();
+        }
+        buffer[pos++] = (byte) c;
+        return this;
+    }
+
+    public ResultWriter newLine() throws IOException {
+        return write('\n');
+    }
+
+    public ResultWriter write(long value) throws IOException {
+        ensure(20);
+        if (value < 0) {
+            if (value == Long.MIN_VALUE) {
+                return write(Long.toString(value));
+            }
+            buffer[pos++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long v = value / 10; v > 0; v /= 10) {
+            digits++;
+        }
+        for (int i = pos + digits - 1; i >= pos; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        pos += digits;
+        return this;
+    }
+
+    // Method to write a number with a fixed count of decimals (0-9), exactly
+    // like "%.2f": half up on the shortest decimal form of the value, so
+    // 0.145 gives "0.15", and a negative value keeps its sign ("-0.00").
+    public ResultWriter writeFixed(double value, int decimals) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return write(Double.toString(value));
+        }
+        if (Double.doubleToRawLongBits(value) < 0) {
+            write('-');
+        }
+        double magnitude = Math.abs(value);
+        long scale = POWERS_OF_TEN[decimals];
+        if (magnitude * scale >= FAST_LIMIT) {
+            return write(new BigDecimal(Double.toString(magnitude))
+                .setScale(decimals, RoundingMode.HALF_UP).toPlainString());
+        }
+        long scaled = roundHalfUp(magnitude, decimals);
+        write(scaled / scale);
+        if (decimals > 0) {
+            ensure(decimals + 1);
+            buffer[pos++] = '.';
+            long fraction = scaled % scale;
+            for (int i = pos + decimals - 1; i >= pos; i--) {
+                buffer[i] = (byte) ('0' + fraction % 10);
+                fraction /= 10;
+            }
+            pos += decimals;
+        }
+        return this;
+    }
+
+    // Method to round a value from 0 up to FAST_LIMIT / 10^decimals to a whole
+    // number of 10^-decimals units, exactly as writeFixed prints it. Only
+    // values whose scaled fraction is within TIE_MARGIN of one half need the
+    // shortest decimal form; everything else rounds the same on the double.
+    static long roundHalfUp(double magnitude, int decimals) {
+        double scaledValue = magnitude * POWERS_OF_TEN[decimals];
+        double scaledFraction = scaledValue - Math.floor(scaledValue);
+        if (Math.abs(scaledFraction - 0.5) <= TIE_MARGIN) {
+            return new BigDecimal(Double.toString(magnitude))
+                .setScale(decimals, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        }
+        return Math.round(scaledValue);
+    }
+
+    // Method to write a quoted JSON string
+    public ResultWriter writeJsonString(String text) throws IOException {
+        if (text == null) {
+            return write("null");
+        }
+        write('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\' || c < 0x20 || c >= 0x80) {
+                // Rare characters go through the shared escaping code
+                StringBuilder escaped = Json.appendString(new StringBuilder(), text.substring(i));
+                write(escaped.substring(1, escaped.length() - 1));
+                break;
+            }
+            write(c);
+        }
+        return write('"');
+    }
+
+    // Method to write a CSV field, quoting it only when it needs quotes
+    public ResultWriter writeCsvField(String text) throws IOException {
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0) {
+            return write(text);
+        }
+        return write('"').write(text.replace("\"", "\"\"")).write('"');
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        int offset = 0;
+        while (offset < bytes.length) {
+            if (pos == buffer.length) {
+                flush();
+            }
+            int n = Math.min(bytes.length - offset, buffer.length - pos);
+            System.arraycopy(bytes, offset, buffer, pos, n);
+            pos += n;
+            offset += n;
+        }
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (buffer.length - pos < bytes) {
+            flush();
+        }
+    }
+
+    public void flush() throws IOException {
+        view.clear().limit(pos);
+        while (view.hasRemaining()) {
+            channel.write(view);
+        }
+        pos = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package cgpa.calculator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// Saves and loads a GUI session (courses and semester records) as a compact
+// binary file, read back through a memory-mapped buffer.
+//
+// Layout, little-endian:
+//   header   magic "CGPS", u16 version, u16 reserved, i32 courses, i32 semesters
+//   courses  f64 marks[n], f64 credits[n], u8 geds[n], then n names as (i32 length, UTF-8)
+//   semesters (i32 length, UTF-8) semester, (i32 length, UTF-8) session, f64 cgpa, f64 credits
+//
+// Version 1 files have no semester credits; they load with 1 credit each,
+// which keeps their cumulative CGPA the plain average they were saved with.
+// A file whose lengths run past its end, or whose courses could not have
+// been entered in the calculator, is rejected as corrupt.
+final class SessionStore {
+
+    static final int MAGIC = 0x53504743; // "CGPS"
+    static final short VERSION = 2;
+    static final String EXTENSION = "cgpa";
+
+    private static final int HEADER_SIZE = 16;
+
+    private SessionStore() {
+    }
+
+    static void save(Path file, CourseTableModel courses, List<CgpaCalcGUI.SemesterRecord> semesters) throws IOException {
+        int count = courses.size();
+        byte[][] names = new byte[count][];
+        long size = HEADER_SIZE + count * 17L;
+        for (int i = 0; i < count; i++) {
+            names[i] = courses.getName(i).getBytes(StandardCharsets.UTF_8);
+            size += 4 + names[i].length;
+        }
+        byte[][] semesterText = new byte[semesters.size() * 2][];
+        for (int i = 0; i < semesters.size(); i++) {
+            CgpaCalcGUI.SemesterRecord record = semesters.get(i);
+            semesterText[2 * i] = record.semester.getBytes(StandardCharsets.UTF_8);
+            semesterText[2 * i + 1] = record.session.getBytes(StandardCharsets.UTF_8);
+            size += 8 + semesterText[2 * i].length + semesterText[2 * i + 1].length + 16;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC).putShort(VERSION).putShort((short) 0);
+            buffer.putInt(count).putInt(semesters.size());
+            for (int i = 0; i < count; i++) {
+                buffer.putDouble(courses.getMarks(i));
+            }
+            for (int i = 0; i < count; i++) {
+                buffer.putDouble(courses.getCredits(i));
+            }
+            for (int i = 0; i < count; i++) {
+                buffer.put((byte) (courses.isGEDS(i) ? 1 : 0));
+            }
+            for (byte[] name : names) {
+                buffer.putInt(name.length).put(name);
+            }
+            for (int i = 0; i < semesters.size(); i++) {
+                buffer.putInt(semesterText[2 * i].length).put(semesterText[2 * i]);
+                buffer.putInt(semesterText[2 * i + 1].length).put(semesterText[2 * i + 1]);
+                buffer.putDouble(semesters.get(i).cgpa);
+                buffer.putDouble(semesters.get(i).credits);
+            }
+            buffer.force();
+        }
+    }
+
+    // Method to load a session, appending to the given model and list
+    static void load(Path file, CourseTableModel courses, List<CgpaCalcGUI.SemesterRecord> semesters) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("Not a CGPA session file");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a CGPA session file");
+            }
+            short version = buffer.getShort();
+            if (version < 1 || version > VERSION) {
+                throw new IOException("Unsupported session file version " + version);
+            }
+            buffer.getShort(); // reserved
+            int count = buffer.getInt();
+            int semesterCount = buffer.getInt();
+            if (count < 0 || semesterCount < 0 || (long) count * 17 > buffer.remaining()) {
+                throw new IOException("Corrupt session file");
+            }
+
+            try {
+                double[] marks = new double[count];
+                double[] credits = new double[count];
+                boolean[] geds = new boolean[count];
+                String[] names = new String[count];
+                buffer.asDoubleBuffer().get(marks);
+                buffer.position(buffer.position() + count * 8);
+                buffer.asDoubleBuffer().get(credits);
+                buffer.position(buffer.position() + count * 8);
+                for (int i = 0; i < count; i++) {
+                    geds[i] = buffer.get() != 0;
+                }
+                for (int i = 0; i < count; i++) {
+                    names[i] = readString(buffer);
+                    if (!CgpaCalcGUI.isValidCourse(names[i], marks[i], credits[i])) {
+                        throw new IOException("Corrupt session file: course " + (i + 1) + " is invalid");
+                    }
+                }
+                for (int i = 0; i < semesterCount; i++) {
+                    String semester = readString(buffer);
+                    String session = readString(buffer);
+                    double cgpa = buffer.getDouble();
+                    double semesterCredits = version >= 2 ? buffer.getDouble() : 1.0;
+                    semesters.add(new CgpaCalcGUI.SemesterRecord(semester, session, cgpa, semesterCredits));
+                }
+                courses.addCourses(names, marks, credits, geds, count);
+            } catch (RuntimeException ex) {
+                throw new IOException("Corrupt session file", ex);
+            }
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) throws IOException {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IOException("Corrupt session file");
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,65 @@
+package cgpa.calculator;
+
+import java.awt.AWTEvent;
+import java.awt.GraphicsEnvironment;
+import java.awt.Toolkit;
+import java.awt.Window;
+import java.awt.event.AWTEventListener;
+import java.awt.event.WindowEvent;
+import java.time.Duration;
+import java.time.Instant;
+
+import javax.swing.SwingUtilities;
+
+// Launches the GUI and reports time-to-first-frame: from JVM start (and from
+// main) until the main window has opened and its first paint has run.
+//
+//   java -cp target/classes cgpa.calculator.StartupTimer
+//
+// With -Dcgpa.startup.exit=true the JVM exits once the frame is up, which
+// is how the cds profile trains its class-data-sharing archive.
+public final class StartupTimer {
+
+    private StartupTimer() {
+    }
+
+    public static void main(String[] args) {
+        long mainNanos = System.nanoTime();
+        Instant jvmStart = ProcessHandle.current().info().startInstant().orElse(null);
+        boolean exit = Boolean.getBoolean("cgpa.startup.exit");
+
+        if (GraphicsEnvironment.isHeadless()) {
+            System.err.println("StartupTimer needs a display");
+            System.exit(1);
+        }
+
+        Toolkit.getDefaultToolkit().addAWTEventListener(new AWTEventListener() {
+            @Override
+            public void eventDispatched(AWTEvent event) {
+                if (event.getID() == WindowEvent.WINDOW_OPENED) {
+                    Toolkit.getDefaultToolkit().removeAWTEventListener(this);
+                    firstFrame(((WindowEvent) event).getWindow(), jvmStart, mainNanos, exit);
+                }
+            }
+        }, AWTEvent.WINDOW_EVENT_MASK);
+
+        CgpaCalcGUI.main(args);
+    }
+
+    private static void firstFrame(Window window, Instant jvmStart, long mainNanos, boolean exit) {
+        // Queued behind the paint events of the newly opened window
+        SwingUtilities.invokeLater(() -> {
+            long fromMain = (System.nanoTime() - mainNanos) / 1_000_000;
+            if (jvmStart != null) {
+                long fromJvm = Duration.between(jvmStart, Instant.now()).toMillis();
+                System.out.printf("First frame: %d ms from JVM start, %d ms from main%n", fromJvm, fromMain);
+            } else {
+                System.out.printf("First frame: %d ms from main%n", fromMain);
+            }
+            if (exit) {
+                window.dispose();
+                System.exit(0);
+            }
+        });
+    }
+}
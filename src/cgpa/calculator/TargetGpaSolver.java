@@ -0,0 +1,131 @@
+package cgpa.calculator;
+
+import java.util.Arrays;
+
+// Answers "what do I need in my remaining courses to reach a target CGPA?"
+//
+// Given the grade points and credits earned so far and the credits of the
+// planned courses, finds the passing grade for each planned course that
+// reaches the target with the lowest total marks. This is a knapsack over
+// grade-point units (hundredths of a credit-weighted point, exact for
+// credits and points with one decimal): best[u] is the fewest marks that
+// earn at least u units, capped at the units the target still needs.
+final class TargetGpaSolver {
+
+    private static final int UNITS_PER_POINT = 100;
+
+    // A course still to be taken
+    static final class PlannedCourse {
+        final double credits;
+        final boolean geds;
+
+        PlannedCourse(double credits, boolean geds) {
+            this.credits = credits;
+            this.geds = geds;
+        }
+    }
+
+    static final class Plan {
+        final boolean feasible;
+        // Band per planned course; the best grades when the target is out of reach
+        final int[] bands;
+        final double projectedCgpa;
+
+        Plan(boolean feasible, int[] bands, double projectedCgpa) {
+            this.feasible = feasible;
+            this.bands = bands;
+            this.projectedCgpa = projectedCgpa;
+        }
+    }
+
+    private TargetGpaSolver() {
+    }
+
+    static Plan solve(GradingScale scale, double earnedPoints, double earnedCredits,
+                      PlannedCourse[] planned, double targetCgpa) {
+        int n = planned.length;
+        double totalCredits = earnedCredits;
+        for (PlannedCourse course : planned) {
+            totalCredits += course.credits;
+        }
+        int[] bands = new int[n];
+        if (n == 0) {
+            double cgpa = earnedCredits > 0 ? earnedPoints / earnedCredits : 0;
+            return new Plan(cgpa >= targetCgpa, bands, cgpa);
+        }
+
+        // Units the planned courses must earn between them
+        long needed = (long) Math.ceil((targetCgpa * totalCredits - earnedPoints) * UNITS_PER_POINT - 1e-6);
+        if (needed <= 0) {
+            needed = 0;
+        }
+
+        // Passing bands of each course, best first
+        long maxUnits = 0;
+        for (int i = 0; i < n; i++) {
+            bands[i] = 0;
+            maxUnits += units(scale, 0, planned[i].credits);
+        }
+        if (needed > maxUnits) {
+            return new Plan(false, bands, project(scale, earnedPoints, totalCredits, planned, bands));
+        }
+
+        int capacity = (int) needed;
+        int[] best = new int[capacity + 1];
+        int[] next = new int[capacity + 1];
+        // Band chosen for course i to reach u units, and the units before it
+        byte[][] choice = new byte[n][capacity + 1];
+        int[][] previous = new int[n][capacity + 1];
+        Arrays.fill(best, Integer.MAX_VALUE);
+        best[0] = 0;
+        for (int i = 0; i < n; i++) {
+            Arrays.fill(next, Integer.MAX_VALUE);
+            for (int band = 0; band < scale.getBandCount(); band++) {
+                // Passing bands come first; GradingScale.fromProperties checks it
+                if (!scale.isPassed(band, planned[i].geds)) {
+                    break;
+                }
+                int gain = (int) Math.min(units(scale, band, planned[i].credits), capacity);
+                int cost = (int) Math.round(scale.minMarks(band) * 10);
+                for (int u = 0; u <= capacity; u++) {
+                    if (best[u] == Integer.MAX_VALUE) {
+                        continue;
+                    }
+                    int reached = Math.min(capacity, u + gain);
+                    int marks = best[u] + cost;
+                    if (marks < next[reached]) {
+                        next[reached] = marks;
+                        choice[i][reached] = (byte) band;
+                        previous[i][reached] = u;
+                    }
+                }
+            }
+            int[] swap = best;
+            best = next;
+            next = swap;
+        }
+
+        if (best[capacity] == Integer.MAX_VALUE) {
+            return new Plan(false, bands, project(scale, earnedPoints, totalCredits, planned, bands));
+        }
+        int u = capacity;
+        for (int i = n - 1; i >= 0; i--) {
+            bands[i] = choice[i][u];
+            u = previous[i][u];
+        }
+        return new Plan(true, bands, project(scale, earnedPoints, totalCredits, planned, bands));
+    }
+
+    private static long units(GradingScale scale, int band, double credits) {
+        return Math.round(scale.points(band) * credits * UNITS_PER_POINT);
+    }
+
+    private static double project(GradingScale scale, double earnedPoints, double totalCredits,
+                                  PlannedCourse[] planned, int[] bands) {
+        double points = earnedPoints;
+        for (int i = 0; i < planned.length; i++) {
+            points += scale.points(bands[i]) * planned[i].credits;
+        }
+        return totalCredits > 0 ? points / totalCredits : 0;
+    }
+}
@@ -0,0 +1,195 @@
+package cgpa.calculator;
+
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+// Reads course transcripts from CSV/TSV or JSON files.
+//
+// CSV rows are (course, marks, credits, isGEDS), optionally prefixed by a
+// studentId column as in registry exports; a header row is skipped. JSON is
+// an array of course objects, or an object with a "courses" array. Courses
+// without credit hours take their credits and GEDS flag from the course
+// catalog. Valid courses are handed out in chunks so the caller can publish
+// them in batches.
+final class TranscriptImporter {
+
+    static final int CHUNK_SIZE = 1000;
+
+    // A batch of imported courses in columnar form
+    static final class Chunk {
+        final String[] names = new String[CHUNK_SIZE];
+        final double[] marks = new double[CHUNK_SIZE];
+        final double[] credits = new double[CHUNK_SIZE];
+        final boolean[] geds = new boolean[CHUNK_SIZE];
+        int size;
+
+        boolean isFull() {
+            return size == CHUNK_SIZE;
+        }
+    }
+
+    static final class Summary {
+        int imported;
+        int rejected;
+    }
+
+    private final Consumer<Chunk> out;
+    private final CourseCatalog catalog = CourseCatalog.shared();
+    private final Summary summary = new Summary();
+    private Chunk chunk = new Chunk();
+
+    private TranscriptImporter(Consumer<Chunk> out) {
+        this.out = out;
+    }
+
+    // Method to import a file, reporting bytes read to progress as it goes
+    static Summary read(Path file, Consumer<Chunk> out, LongConsumer progress) throws IOException {
+        TranscriptImporter importer = new TranscriptImporter(out);
+        try (InputStream raw = Files.newInputStream(file);
+             BufferedReader in = new BufferedReader(new InputStreamReader(
+                 new CountingInputStream(raw, progress), StandardCharsets.UTF_8))) {
+            if (file.getFileName().toString().toLowerCase().endsWith(".json")) {
+                importer.readJson(in);
+            } else {
+                importer.readCsv(in);
+            }
+        }
+        importer.flush();
+        return importer.summary;
+    }
+
+    private void readCsv(BufferedReader in) throws IOException {
+        String line;
+        long lineNumber = 0;
+        String separator = null;
+        while ((line = in.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (separator == null) {
+                separator = line.indexOf('\t') >= 0 ? "\t" : ",";
+            }
+            String[] fields = line.split(separator, -1);
+            int first = fields.length >= 5 ? 1 : 0; // Skip studentId column
+            if (fields.length < 3) {
+                summary.rejected++;
+                continue;
+            }
+            double marks;
+            double credits;
+            try {
+                marks = Double.parseDouble(fields[first + 1].trim());
+                String creditText = fields[first + 2].trim();
+                credits = creditText.isEmpty() ? Double.NaN : Double.parseDouble(creditText);
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException ex) {
+                if (lineNumber > 1) {
+                    summary.rejected++;
+                }
+                continue;
+            }
+            boolean geds = fields.length > first + 3 && BatchCgpaCalc.isYes(fields[first + 3]);
+            add(fields[first], marks, credits, geds);
+        }
+    }
+
+    private void readJson(BufferedReader in) throws IOException {
+        Object root = Json.parse(in);
+        if (root instanceof Map) {
+            root = ((Map<?, ?>) root).get("courses");
+        }
+        if (!(root instanceof List)) {
+            throw new IOException("Expected a JSON array of courses");
+        }
+        for (Object item : (List<?>) root) {
+            if (!(item instanceof Map)) {
+                summary.rejected++;
+                continue;
+            }
+            Map<?, ?> course = (Map<?, ?>) item;
+            Object name = course.containsKey("course") ? course.get("course") : course.get("name");
+            double marks = Json.getNumber(course, "marks", Double.NaN);
+            double credits = Json.getNumber(course, "credits", Json.getNumber(course, "creditHours", Double.NaN));
+            boolean geds = Json.getFlag(course, "geds") || Json.getFlag(course, "isGEDS");
+            add(name == null ? "" : name.toString(), marks, credits, geds);
+        }
+    }
+
+    private void add(String rawName, double marks, double credits, boolean geds) {
+        String name = rawName.trim().toUpperCase();
+        if (name.isEmpty()) {
+            summary.rejected++;
+            return;
+        }
+        // Only accepted rows are interned, so rejected codes never reach the catalog
+        CourseCatalog.Entry course = catalog.lookup(name);
+        if (Double.isNaN(credits) && course != null && course.hasCredits()) {
+            credits = course.credits();
+            geds = course.isGEDS();
+        }
+        if (!CgpaCalcGUI.isValidCourse(name, marks, credits)) {
+            summary.rejected++;
+            return;
+        }
+        if (course == null) {
+            course = catalog.intern(name);
+        }
+        int i = chunk.size++;
+        chunk.names[i] = course.code();
+        chunk.marks[i] = marks;
+        chunk.credits[i] = credits;
+        chunk.geds[i] = geds;
+        summary.imported++;
+        if (chunk.isFull()) {
+            out.accept(chunk);
+            chunk = new Chunk();
+        }
+    }
+
+    private void flush() {
+        if (chunk.size > 0) {
+            out.accept(chunk);
+            chunk = new Chunk();
+        }
+    }
+
+    // Reports the running byte count, for progress against the file size
+    private static final class CountingInputStream extends FilterInputStream {
+        private final LongConsumer progress;
+        private long count;
+
+        CountingInputStream(InputStream in, LongConsumer progress) {
+            super(in);
+            this.progress = progress;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                progress.accept(++count);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+                progress.accept(count);
+            }
+            return n;
+        }
+    }
+}
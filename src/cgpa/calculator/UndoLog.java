@@ -0,0 +1,93 @@
+package cgpa.calculator;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+// Undo/redo history for the GPA and CGPA tabs.
+//
+// Every edit is logged as a command that knows how to revert and reapply
+// itself, so undoing or redoing costs as much as the edit did, however long
+// the session has run; nothing is replayed from the start. Bulk edits
+// (clearing a list, an import) keep a compact columnar snapshot of only the
+// rows they touched. The oldest commands are dropped past LIMIT.
+final class UndoLog {
+
+    static final int LIMIT = 10_000;
+
+    interface Command {
+        // Short description for the Edit menu, e.g. "Add MTH101"
+        String name();
+
+        void undo();
+
+        void redo();
+    }
+
+    private final Deque<Command> undoStack = new ArrayDeque<>();
+    private final Deque<Command> redoStack = new ArrayDeque<>();
+    private final Runnable onChange;
+
+    // onChange runs after every change to the history, to refresh menus
+    UndoLog(Runnable onChange) {
+        this.onChange = onChange;
+    }
+
+    // Method to log a command that has just been applied
+    void record(Command command) {
+        undoStack.addLast(command);
+        if (undoStack.size() > LIMIT) {
+            undoStack.removeFirst();
+        }
+        redoStack.clear();
+        onChange.run();
+    }
+
+    // Method to get the command the next undo would revert, or null
+    Command peekUndo() {
+        return undoStack.peekLast();
+    }
+
+    boolean canUndo() {
+        return !undoStack.isEmpty();
+    }
+
+    boolean canRedo() {
+        return !redoStack.isEmpty();
+    }
+
+    String undoName() {
+        return undoStack.isEmpty() ? "" : undoStack.peekLast().name();
+    }
+
+    String redoName() {
+        return redoStack.isEmpty() ? "" : redoStack.peekLast().name();
+    }
+
+    // Method to revert the last command, returns it or null if there was none
+    Command undo() {
+        Command command = undoStack.pollLast();
+        if (command != null) {
+            command.undo();
+            redoStack.addLast(command);
+            onChange.run();
+        }
+        return command;
+    }
+
+    // Method to reapply the last undone command, returns it or null
+    Command redo() {
+        Command command = redoStack.pollLast();
+        if (command != null) {
+            command.redo();
+            undoStack.addLast(command);
+            onChange.run();
+        }
+        return command;
+    }
+
+    void clear() {
+        undoStack.clear();
+        redoStack.clear();
+        onChange.run();
+    }
+}
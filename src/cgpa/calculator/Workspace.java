@@ -0,0 +1,114 @@
+package cgpa.calculator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// The students open in one GUI window, keyed by matriculation number.
+//
+// Each student keeps its own course model, running stats, semesters and undo
+// history, so switching student is a matter of pointing the window at
+// another session; nothing is recomputed. Sessions live in a concurrent
+// sorted map: a cohort can be loaded on a worker thread while the window
+// lists and searches the students already in, in matriculation order.
+//
+// Students with courses are also ranked against each other on their 5.0
+// scale equivalent CGPA, so students graded under different scales compare.
+final class Workspace {
+
+    // Everything the window shows for one student
+    static final class StudentSession {
+        final String matricNumber;
+        final CourseTableModel courses = new CourseTableModel();
+        final CgpaCalcGUI.Stats stats = new CgpaCalcGUI.Stats();
+        final ArrayList<CgpaCalcGUI.SemesterRecord> semesters = new ArrayList<>();
+        final CumulativeCgpa cumulative = new CumulativeCgpa();
+        final UndoLog undoLog;
+        // 5.0-scale CGPA this student is ranked under, NaN while unranked
+        double rankedCgpa = Double.NaN;
+
+        StudentSession(String matricNumber, Runnable onUndoChange) {
+            this.matricNumber = matricNumber;
+            this.undoLog = new UndoLog(onUndoChange);
+        }
+    }
+
+    private final ConcurrentNavigableMap<String, StudentSession> sessions = new ConcurrentSkipListMap<>();
+    private final Runnable onUndoChange;
+    private final CohortRanking ranking = new CohortRanking(5.0);
+
+    // onUndoChange is handed to every session's undo history
+    Workspace(Runnable onUndoChange) {
+        this.onUndoChange = onUndoChange;
+    }
+
+    // Method to normalise a matriculation number as typed or imported
+    static String normalize(String matricNumber) {
+        return matricNumber.trim().toUpperCase(Locale.ROOT);
+    }
+
+    // Method to get a student's session, creating an empty one if needed
+    StudentSession open(String matricNumber) {
+        return sessions.computeIfAbsent(normalize(matricNumber), key -> new StudentSession(key, onUndoChange));
+    }
+
+    // Method to create a session that is filled in before it is added
+    StudentSession newSession(String matricNumber) {
+        return new StudentSession(normalize(matricNumber), onUndoChange);
+    }
+
+    // Method to add a filled-in session, returns false if the student is already open
+    boolean add(StudentSession session) {
+        return sessions.putIfAbsent(session.matricNumber, session) == null;
+    }
+
+    StudentSession get(String matricNumber) {
+        return sessions.get(normalize(matricNumber));
+    }
+
+    void remove(String matricNumber) {
+        StudentSession session = sessions.remove(normalize(matricNumber));
+        if (session != null) {
+            rank(session, false, 0);
+        }
+    }
+
+    // Method to (re)rank a student after its courses changed; students
+    // without courses are left out of the ranking
+    synchronized void rank(StudentSession session, boolean hasCourses, double cgpa5Scale) {
+        double previous = session.rankedCgpa;
+        double next = hasCourses ? cgpa5Scale : Double.NaN;
+        if (Double.isNaN(previous)) {
+            if (!Double.isNaN(next)) {
+                ranking.add(next);
+            }
+        } else if (Double.isNaN(next)) {
+            ranking.remove(previous);
+        } else {
+            ranking.update(previous, next);
+        }
+        session.rankedCgpa = next;
+    }
+
+    CohortRanking getRanking() {
+        return ranking;
+    }
+
+    int size() {
+        return sessions.size();
+    }
+
+    // Method to list matriculation numbers containing query, in order
+    List<String> search(String query) {
+        String needle = normalize(query);
+        List<String> matches = new ArrayList<>();
+        for (String matricNumber : sessions.keySet()) {
+            if (matricNumber.contains(needle)) {
+                matches.add(matricNumber);
+            }
+        }
+        return matches;
+    }
+}
@@ -6,4 +6,6 @@
  */
 module CgpaCalc {
 	requires java.desktop;
+	requires java.management;
+	requires jdk.httpserver;
 }
\ No newline at end of file
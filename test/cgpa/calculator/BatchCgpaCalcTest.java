@@ -0,0 +1,144 @@
+package cgpa.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BatchCgpaCalcTest {
+
+    private static final GradingScale SCALE = GradingScale.FIVE_POINT;
+
+    @TempDir
+    Path dir;
+
+    @BeforeAll
+    static void defineCatalog() {
+        CourseCatalog.shared().define("BCT101", "Catalog course", 4, true);
+    }
+
+    // One finished student, copied out of the reused StudentResult
+    private static final class Result {
+        final String studentId;
+        final int courses;
+        final int failed;
+        final int invalid;
+        final double credits;
+        final double points;
+
+        Result(BatchCgpaCalc.StudentResult student) {
+            studentId = student.getStudentId();
+            courses = student.getCourses();
+            failed = student.getFailed();
+            invalid = student.getInvalid();
+            credits = student.getTotalCreditHours();
+            points = student.getTotalGradePoints();
+        }
+    }
+
+    private static List<Result> process(String text) throws IOException {
+        List<Result> results = new ArrayList<>();
+        long students = BatchCgpaCalc.process(new BufferedReader(new StringReader(text)), s -> results.add(new Result(s)));
+        assertEquals(results.size(), students);
+        return results;
+    }
+
+    private static String error(String text) {
+        return assertThrows(IOException.class, () -> process(text)).getMessage();
+    }
+
+    private static double points(double marks) {
+        return SCALE.points(SCALE.band(marks));
+    }
+
+    @Test
+    void groupsContiguousRowsPerStudent() throws IOException {
+        List<Result> results = process("S1,MTH101,72,3,no\nS1,PHY101,35,2,no\nS1,GST101,-4,2,yes\nS2,MTH101,55,3,no\n");
+        assertEquals(2, results.size());
+
+        Result first = results.get(0);
+        assertEquals("S1", first.studentId);
+        assertEquals(2, first.courses);
+        assertEquals(1, first.failed);
+        assertEquals(1, first.invalid);
+        assertEquals(5, first.credits);
+        assertEquals(points(72) * 3 + points(35) * 2, first.points, 1e-9);
+
+        Result second = results.get(1);
+        assertEquals("S2", second.studentId);
+        assertEquals(1, second.courses);
+        assertEquals(points(55) * 3, second.points, 1e-9);
+    }
+
+    @Test
+    void skipsHeaderAndBlankLines() throws IOException {
+        List<Result> results = process("studentId,course,marks,credits,isGEDS\n\n  \nS1,MTH101,72,3,no\n\nS1,PHY101,60,2,no\n");
+        assertEquals(1, results.size());
+        assertEquals(2, results.get(0).courses);
+    }
+
+    @Test
+    void readsTabsAndTrimsFields() throws IOException {
+        List<Result> results = process(" S1 \t MTH101 \t 72 \t 3 \t no \r\nS1\tPHY101\t+60.5\t.5\tno\r\n");
+        assertEquals(1, results.size());
+        assertEquals("S1", results.get(0).studentId);
+        assertEquals(3.5, results.get(0).credits, 1e-9);
+    }
+
+    @Test
+    void blankCreditsComeFromTheCatalog() throws IOException {
+        // The catalog's GEDS flag wins over the row's
+        Result result = process("S1,BCT101,42,,no\n").get(0);
+        assertEquals(4, result.credits);
+        assertEquals(SCALE.isPassed(SCALE.band(42), true) ? 0 : 1, result.failed);
+        assertEquals(points(42) * 4, result.points, 1e-9);
+
+        assertEquals("Line 2: no credit hours and NOPE101 is not in the course catalog",
+            error("S1,MTH101,72,3,no\nS1,NOPE101,72,,no\n"));
+    }
+
+    @Test
+    void reportsMalformedRowsWithTheirLineNumber() {
+        assertEquals("Line 2: expected 5 fields but found 3", error("S1,MTH101,72,3,no\nS1,MTH101,72\n"));
+        assertEquals("Line 3: invalid marks or credit hours", error("S1,MTH101,72,3,no\n\nS1,MTH101,abc,3,no\n"));
+        // Only the first line can be a header
+        assertEquals("Line 2: invalid marks or credit hours", error("\nstudentId,course,marks,credits,isGEDS\n"));
+    }
+
+    @Test
+    void rejectsStudentsThatAreNotContiguous() {
+        String text = "S1,MTH101,72,3,no\nS2,MTH101,60,3,no\n\nS1,PHY101,50,2,no\n";
+        assertEquals("Line 4: rows of S1 are not contiguous", error(text));
+    }
+
+    @Test
+    void parallelReaderRejectsStudentsThatAreNotContiguous() throws IOException {
+        Path file = dir.resolve("split.csv");
+        Files.writeString(file, "S1,MTH101,72,3,no\r\nS2,MTH101,60,3,no\r\nS1,PHY101,50,2,no\r\n", StandardCharsets.UTF_8);
+        IOException ex = assertThrows(IOException.class, () -> ResultFileParser.report(file, 2, s -> { }));
+        assertEquals("Line 3: rows of S1 are not contiguous", ex.getMessage());
+    }
+
+    @Test
+    void isYesAcceptsTheUsualSpellings() {
+        for (String yes : new String[] {"yes", "YES", " y ", "True", "1"}) {
+            assertTrue(BatchCgpaCalc.isYes(yes), yes);
+        }
+        for (String no : new String[] {"no", "n", "false", "0", "", "2", "yes please"}) {
+            assertFalse(BatchCgpaCalc.isYes(no), no);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package cgpa.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+class CgpaResultCacheTest {
+
+    private static CgpaResultCache.Key key(GradingScale scale, double... marks) {
+        int n = marks.length;
+        String[] courses = new String[n];
+        double[] credits = new double[n];
+        boolean[] geds = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            courses[i] = "MTH10" + i;
+            credits[i] = 3;
+        }
+        return new CgpaResultCache.Key(scale, courses, marks.clone(), credits, geds);
+    }
+
+    private static CgpaResultCache.Key key(double... marks) {
+        return key(GradingScale.FIVE_POINT, marks);
+    }
+
+    @Test
+    void equalTranscriptHits() {
+        CgpaResultCache cache = new CgpaResultCache(10);
+        cache.put(key(72, 65), "first");
+        assertEquals("first", cache.get(key(72, 65)));
+    }
+
+    @Test
+    void changedMarkOrScaleMisses() {
+        CgpaResultCache cache = new CgpaResultCache(10);
+        cache.put(key(72, 65), "first");
+        assertNull(cache.get(key(72, 65.5)));
+        assertNull(cache.get(key(72)));
+        for (GradingScale scale : GradingScale.builtIns()) {
+            if (scale != GradingScale.FIVE_POINT) {
+                assertNull(cache.get(key(scale, 72, 65)), scale.getName());
+            }
+        }
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        CgpaResultCache cache = new CgpaResultCache(2);
+        cache.put(key(1), "one");
+        cache.put(key(2), "two");
+        // Reading one makes two the eldest
+        assertEquals("one", cache.get(key(1)));
+        cache.put(key(3), "three");
+        assertEquals(2, cache.size());
+        assertNull(cache.get(key(2)));
+        assertEquals("one", cache.get(key(1)));
+        assertEquals("three", cache.get(key(3)));
+    }
+
+    @Test
+    void evictsByRowsHeld() {
+        CgpaResultCache cache = new CgpaResultCache(100, 5);
+        cache.put(key(1, 1), "a");
+        cache.put(key(2, 2), "b");
+        assertEquals(4, cache.rows());
+        // 7 rows is over the limit; dropping the eldest leaves 5
+        cache.put(key(3, 3, 3), "c");
+        assertEquals(2, cache.size());
+        assertEquals(5, cache.rows());
+        assertNull(cache.get(key(1, 1)));
+        assertEquals("b", cache.get(key(2, 2)));
+        assertEquals("c", cache.get(key(3, 3, 3)));
+        // Putting the same transcript again adds no rows
+        cache.put(key(3, 3, 3), "c");
+        assertEquals(5, cache.rows());
+    }
+
+    @Test
+    void largeTranscriptsAreNotCached() {
+        CgpaResultCache cache = new CgpaResultCache(10);
+        double[] marks = new double[CgpaResultCache.MAX_ROWS_PER_ENTRY + 1];
+        cache.put(key(marks), "large");
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.rows());
+        assertNull(cache.get(key(marks)));
+    }
+
+    @Test
+    void capacityZeroCachesNothing() {
+        CgpaResultCache cache = new CgpaResultCache(0);
+        cache.put(key(72), "first");
+        assertEquals(0, cache.size());
+        assertNull(cache.get(key(72)));
+    }
+}
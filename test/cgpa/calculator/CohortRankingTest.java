@@ -0,0 +1,93 @@
+package cgpa.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class CohortRankingTest {
+
+    // Method to get the CGPA the way it is printed, which decides ties
+    private static BigDecimal printed(double cgpa, double maxCgpa) {
+        return new BigDecimal(String.format(Locale.ROOT, "%.2f", Math.max(0, Math.min(cgpa, maxCgpa))));
+    }
+
+    // Method to check rank and percentile of every CGPA against counting the whole cohort
+    private static void assertMatchesBruteForce(CohortRanking ranking, List<Double> cohort, String context) {
+        double max = ranking.getMaxCgpa();
+        assertEquals(cohort.size(), ranking.size(), context);
+        for (double cgpa : cohort) {
+            BigDecimal mine = printed(cgpa, max);
+            int above = 0;
+            int atOrBelow = 0;
+            for (double other : cohort) {
+                if (printed(other, max).compareTo(mine) > 0) {
+                    above++;
+                } else {
+                    atOrBelow++;
+                }
+            }
+            assertEquals(1 + above, ranking.rank(cgpa), context + " rank of " + cgpa);
+            assertEquals(100.0 * atOrBelow / cohort.size(), ranking.percentile(cgpa), 1e-9,
+                context + " percentile of " + cgpa);
+        }
+    }
+
+    // Method to make a CGPA the way a transcript does, so ties and half-hundredths are common
+    private static double transcriptCgpa(GradingScale scale, Random random) {
+        double points = 0;
+        double credits = 0;
+        for (int i = 1 + random.nextInt(6); i > 0; i--) {
+            double courseCredits = 1 + random.nextInt(4);
+            points += scale.points(random.nextInt(scale.getBandCount())) * courseCredits;
+            credits += courseCredits;
+        }
+        return points / credits;
+    }
+
+    @Test
+    void matchesBruteForceWithTiesAndEdges() {
+        Random random = new Random(42);
+        for (GradingScale scale : GradingScale.builtIns()) {
+            double max = scale.getMaxPoints();
+            CohortRanking ranking = new CohortRanking(max);
+            List<Double> cohort = new ArrayList<>();
+            double[] edges = {0, -0.5, max, max, max - 0.004, max - 0.005, max - 0.006, max + 1,
+                1.005, 2.675, 3.335, 0.004, 0.005};
+            for (double cgpa : edges) {
+                ranking.add(cgpa);
+                cohort.add(cgpa);
+            }
+            for (int i = 0; i < 400; i++) {
+                double cgpa = transcriptCgpa(scale, random);
+                ranking.add(cgpa);
+                cohort.add(cgpa);
+            }
+            assertMatchesBruteForce(ranking, cohort, scale.getName());
+
+            // Move and drop students, as the GUI does while marks are edited
+            for (int i = 0; i < 100; i++) {
+                int student = random.nextInt(cohort.size());
+                double cgpa = transcriptCgpa(scale, random);
+                ranking.update(cohort.get(student), cgpa);
+                cohort.set(student, cgpa);
+            }
+            for (int i = 0; i < 50; i++) {
+                ranking.remove(cohort.remove(random.nextInt(cohort.size())));
+            }
+            assertMatchesBruteForce(ranking, cohort, scale.getName() + " after updates");
+        }
+    }
+
+    @Test
+    void emptyCohortIsAllAtOrBelow() {
+        CohortRanking ranking = new CohortRanking(5.0);
+        assertEquals(1, ranking.rank(3.2));
+        assertEquals(100, ranking.percentile(3.2));
+    }
+}
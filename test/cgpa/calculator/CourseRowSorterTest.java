@@ -0,0 +1,75 @@
+package cgpa.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import javax.swing.RowSorter;
+import javax.swing.SortOrder;
+import javax.swing.table.TableRowSorter;
+
+import org.junit.jupiter.api.Test;
+
+class CourseRowSorterTest {
+
+    private static final String[] NAMES = {"MTH101", "PHY102", "CHM101", "GST111", "CSC201", "ENG101", "BIO101"};
+    // Invalid marks grade to band -1 and -1 points, negative credits are kept as
+    // entered, so several columns mix negative and positive keys
+    private static final double[] ODD_MARKS = {-5, 120, 39.9999, 0, 100};
+    private static final double[] CREDITS = {0, 0.5, 1, 2, 3, 4, 6, -2, -0.25};
+
+    private static CourseTableModel model(GradingScale scale, long seed) {
+        CourseTableModel model = new CourseTableModel();
+        model.setScale(scale);
+        Random random = new Random(seed);
+        for (int i = 0; i < 300; i++) {
+            double marks = random.nextInt(10) == 0
+                ? ODD_MARKS[random.nextInt(ODD_MARKS.length)]
+                : random.nextInt(1001) / 10.0;
+            model.addCourse(NAMES[random.nextInt(NAMES.length)], marks,
+                CREDITS[random.nextInt(CREDITS.length)], random.nextBoolean());
+        }
+        return model;
+    }
+
+    // Method to sort the model the boxed way, comparing the values the table shows
+    private static int[] boxedOrder(CourseTableModel model, int column, SortOrder order) {
+        GradingScale scale = model.getScale();
+        TableRowSorter<CourseTableModel> sorter = new TableRowSorter<>(model);
+        sorter.setComparator(CourseTableModel.COL_COURSE, Comparator.<String>naturalOrder());
+        sorter.setComparator(CourseTableModel.COL_GRADE, Comparator.comparingInt(scale::bandOf));
+        sorter.setComparator(CourseTableModel.COL_STATUS, Comparator.<String>naturalOrder());
+        sorter.setComparator(CourseTableModel.COL_GEDS, Comparator.<String>naturalOrder());
+        sorter.setSortKeys(List.of(new RowSorter.SortKey(column, order)));
+        int[] rows = new int[model.getRowCount()];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = sorter.convertRowIndexToModel(i);
+        }
+        return rows;
+    }
+
+    @Test
+    void matchesBoxedSortOnEveryColumnAndDirection() {
+        long seed = 1;
+        for (GradingScale scale : GradingScale.builtIns()) {
+            CourseTableModel model = model(scale, seed++);
+            CourseRowSorter sorter = new CourseRowSorter(model);
+            for (int column = 0; column < CourseTableModel.COLUMN_COUNT; column++) {
+                for (SortOrder order : new SortOrder[] {SortOrder.ASCENDING, SortOrder.DESCENDING}) {
+                    int[] expected = boxedOrder(model, column, order);
+                    assertArrayEquals(expected, sorter.permutation(column, order == SortOrder.DESCENDING),
+                        scale.getName() + " column " + column + " " + order);
+
+                    sorter.setSortKeys(List.of(new RowSorter.SortKey(column, order)));
+                    int[] view = new int[sorter.getViewRowCount()];
+                    for (int i = 0; i < view.length; i++) {
+                        view[i] = sorter.convertRowIndexToModel(i);
+                    }
+                    assertArrayEquals(expected, view, scale.getName() + " column " + column + " " + order + " view");
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package cgpa.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+// Drives CourseTableModel and Stats through the same calls the GUI's undo
+// commands make, and checks every state against a model rebuilt from scratch
+class CourseUndoTest {
+
+    private static final String[] NAMES = {"MTH101", "PHY102", "CHM101", "GST111", "CSC201", "ENG101"};
+
+    // One course as entered
+    private static final class Row {
+        final String name;
+        final double marks;
+        final double credits;
+        final boolean geds;
+
+        Row(String name, double marks, double credits, boolean geds) {
+            this.name = name;
+            this.marks = marks;
+            this.credits = credits;
+            this.geds = geds;
+        }
+    }
+
+    private final CourseTableModel courses = new CourseTableModel();
+    private final CgpaCalcGUI.Stats stats = new CgpaCalcGUI.Stats();
+    private final UndoLog undoLog = new UndoLog(() -> { });
+
+    private static List<Row> randomRows(Random random, int count) {
+        List<Row> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            // Whole marks from a narrow range, so the extremes are often tied
+            rows.add(new Row(NAMES[random.nextInt(NAMES.length)], 35 + random.nextInt(10) * 5,
+                1 + random.nextInt(4), random.nextBoolean()));
+        }
+        return rows;
+    }
+
+    private static void assertLikeRebuilt(CourseTableModel model, CgpaCalcGUI.Stats stats, List<Row> expected, String context) {
+        CourseTableModel rebuilt = new CourseTableModel();
+        for (Row row : expected) {
+            rebuilt.addCourse(row.name, row.marks, row.credits, row.geds);
+        }
+        CgpaCalcGUI.Stats fresh = CgpaCalcGUI.computeStats(rebuilt);
+
+        assertEquals(rebuilt.size(), model.size(), context);
+        for (int i = 0; i < rebuilt.size(); i++) {
+            String at = context + " row " + i;
+            assertEquals(rebuilt.getName(i), model.getName(i), at);
+            assertEquals(rebuilt.getMarks(i), model.getMarks(i), at);
+            assertEquals(rebuilt.getCredits(i), model.getCredits(i), at);
+            assertEquals(rebuilt.getBand(i), model.getBand(i), at);
+            assertEquals(rebuilt.isGEDS(i), model.isGEDS(i), at);
+        }
+        assertEquals(fresh.total, stats.total, context);
+        assertEquals(fresh.passed, stats.passed, context);
+        assertEquals(fresh.failed, stats.failed, context);
+        assertEquals(fresh.totalPoints, stats.totalPoints, 1e-9, context);
+        assertEquals(fresh.totalCredits, stats.totalCredits, 1e-9, context);
+        assertEquals(fresh.cgpa, stats.cgpa, 1e-9, context);
+        assertEquals(fresh.highestMark, stats.highestMark, context);
+        assertEquals(fresh.lowestMark, stats.lowestMark, context);
+        assertEquals(fresh.easiestCourse, stats.easiestCourse, context);
+        assertEquals(fresh.hardestCourse, stats.hardestCourse, context);
+    }
+
+    // Method to clear the courses, as the Clear Courses command does
+    private void clear() {
+        CourseTableModel.Rows cleared = courses.copyRows(0, courses.size());
+        courses.clear();
+        stats.reset();
+        undoLog.record(new UndoLog.Command() {
+            public String name() {
+                return "Clear Courses";
+            }
+
+            public void undo() {
+                courses.insertRows(0, cleared);
+                CgpaCalcGUI.computeStats(courses, stats);
+            }
+
+            public void redo() {
+                courses.clear();
+                stats.reset();
+            }
+        });
+    }
+
+    // Method to import rows in chunks, logged as one command like an import
+    private void importRows(List<Row> rows, int chunkSize) {
+        int first = courses.size();
+        for (int from = 0; from < rows.size(); from += chunkSize) {
+            int count = Math.min(chunkSize, rows.size() - from);
+            String[] names = new String[count];
+            double[] marks = new double[count];
+            double[] credits = new double[count];
+            boolean[] geds = new boolean[count];
+            for (int i = 0; i < count; i++) {
+                Row row = rows.get(from + i);
+                names[i] = row.name;
+                marks[i] = row.marks;
+                credits[i] = row.credits;
+                geds[i] = row.geds;
+            }
+            int start = courses.addCourses(names, marks, credits, geds, count);
+            for (int row = start; row < start + count; row++) {
+                stats.add(courses, row);
+            }
+        }
+        int count = rows.size();
+        undoLog.record(new UndoLog.Command() {
+            private CourseTableModel.Rows undone;
+
+            public String name() {
+                return "Import";
+            }
+
+            public void undo() {
+                undone = courses.copyRows(first, first + count);
+                stats.truncate(courses, first);
+                courses.truncate(first);
+            }
+
+            public void redo() {
+                courses.insertRows(first, undone);
+                for (int row = first; row < first + count; row++) {
+                    stats.add(courses, row);
+                }
+                undone = null;
+            }
+        });
+    }
+
+    // Method to remove one row, as the Remove command does
+    private void remove(int row) {
+        CourseTableModel.Rows removed = courses.copyRows(row, row + 1);
+        stats.remove(courses, row);
+        courses.removeRow(row);
+        undoLog.record(new UndoLog.Command() {
+            public String name() {
+                return "Remove";
+            }
+
+            public void undo() {
+                courses.insertRows(row, removed);
+                stats.insert(courses, row);
+            }
+
+            public void redo() {
+                stats.remove(courses, row);
+                courses.removeRow(row);
+            }
+        });
+    }
+
+    private static int firstWithMarks(List<Row> rows, double marks) {
+        for (int i = 0; i < rows.size(); i++) {
+            if (rows.get(i).marks == marks) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Test
+    void undoAndRedoMatchRebuiltModel() {
+        Random random = new Random(42);
+        for (int trial = 0; trial < 50; trial++) {
+            courses.clear();
+            stats.reset();
+            List<Row> initial = randomRows(random, 1 + random.nextInt(30));
+            for (Row row : initial) {
+                stats.add(courses, courses.addCourse(row.name, row.marks, row.credits, row.geds));
+            }
+            List<List<Row>> states = new ArrayList<>();
+            states.add(new ArrayList<>(initial));
+
+            clear();
+            states.add(new ArrayList<>());
+
+            List<Row> imported = randomRows(random, 20 + random.nextInt(40));
+            importRows(imported, 1 + random.nextInt(16));
+            states.add(new ArrayList<>(imported));
+
+            // Remove the first row holding the highest mark, which forces a rescan,
+            // then an arbitrary row in the middle
+            List<Row> current = new ArrayList<>(imported);
+            double highest = current.stream().mapToDouble(r -> r.marks).max().getAsDouble();
+            int easiest = firstWithMarks(current, highest);
+            remove(easiest);
+            current.remove(easiest);
+            states.add(new ArrayList<>(current));
+            int middle = current.size() / 2;
+            remove(middle);
+            current.remove(middle);
+            states.add(new ArrayList<>(current));
+
+            String context = "trial " + trial;
+            int last = states.size() - 1;
+            assertLikeRebuilt(courses, stats, states.get(last), context + " after edits");
+            for (int state = last - 1; state >= 0; state--) {
+                undoLog.undo();
+                assertLikeRebuilt(courses, stats, states.get(state), context + " undo to " + state);
+            }
+            for (int state = 1; state <= last; state++) {
+                undoLog.redo();
+                assertLikeRebuilt(courses, stats, states.get(state), context + " redo to " + state);
+            }
+
+            // Bits of truncated or removed rows must not come back on new rows
+            int row = courses.addCourse("MTH101", 70, 3, false);
+            assertEquals(false, courses.isGEDS(row), context);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package cgpa.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class CumulativeCgpaTest {
+
+    @Test
+    void weightsSemestersByCredits() {
+        CumulativeCgpa cumulative = new CumulativeCgpa();
+        assertEquals(0, cumulative.cumulative());
+        cumulative.add(4.0, 20);
+        cumulative.add(3.0, 10);
+        assertEquals(4.0, cumulative.cumulativeAt(0), 1e-12);
+        assertEquals((4.0 * 20 + 3.0 * 10) / 30, cumulative.cumulative(), 1e-12);
+        assertEquals(30, cumulative.totalCredits());
+    }
+
+    @Test
+    void zeroCreditSemestersDoNotCount() {
+        CumulativeCgpa cumulative = new CumulativeCgpa();
+        cumulative.add(5.0, 0);
+        assertEquals(0, cumulative.cumulative());
+        cumulative.add(2.0, 15);
+        cumulative.add(1.0, 0);
+        assertEquals(2.0, cumulative.cumulative(), 1e-12);
+        assertEquals(15, cumulative.totalCredits());
+    }
+
+    @Test
+    void removeLastThenAddReplacesTheSemester() {
+        CumulativeCgpa cumulative = new CumulativeCgpa();
+        cumulative.add(4.0, 20);
+        cumulative.add(1.0, 20);
+        cumulative.removeLast();
+        assertEquals(4.0, cumulative.cumulative(), 1e-12);
+        assertEquals(20, cumulative.totalCredits());
+        cumulative.add(3.0, 10);
+        assertEquals((4.0 * 20 + 3.0 * 10) / 30, cumulative.cumulative(), 1e-12);
+
+        cumulative.clear();
+        assertEquals(0, cumulative.cumulative());
+        assertEquals(0, cumulative.totalCredits());
+    }
+
+    @Test
+    void matchesRecomputingFromScratch() {
+        Random random = new Random(42);
+        CumulativeCgpa cumulative = new CumulativeCgpa();
+        double[] gpas = new double[200];
+        double[] credits = new double[200];
+        int size = 0;
+        for (int step = 0; step < 5_000; step++) {
+            if (size > 0 && random.nextInt(3) == 0) {
+                cumulative.removeLast();
+                size--;
+            } else if (size < gpas.length) {
+                gpas[size] = random.nextInt(501) / 100.0;
+                credits[size] = random.nextInt(5) == 0 ? 0 : 1 + random.nextInt(30);
+                cumulative.add(gpas[size], credits[size]);
+                size++;
+            }
+            double points = 0;
+            double total = 0;
+            for (int i = 0; i < size; i++) {
+                points += gpas[i] * credits[i];
+                total += credits[i];
+                assertEquals(total > 0 ? points / total : 0, cumulative.cumulativeAt(i), 1e-9);
+            }
+            assertEquals(total > 0 ? points / total : 0, cumulative.cumulative(), 1e-9);
+            assertEquals(total, cumulative.totalCredits(), 1e-9);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package cgpa.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class GradeTest {
+
+    private static final GradingScale SCALE = GradingScale.FIVE_POINT;
+
+    private static void assertBand(double marks, Grade expected) {
+        Grade grade = Grade.fromMarks(marks);
+        assertEquals(expected, grade, "marks " + marks);
+        // The shared table and the 5.0 scale must agree on every boundary
+        int band = SCALE.band(marks);
+        assertEquals(grade.letter(), SCALE.letter(band), "letter " + marks);
+        assertEquals(Double.doubleToLongBits(grade.points()), Double.doubleToLongBits(SCALE.points(band)), "points " + marks);
+    }
+
+    @Test
+    void gradesTheBandBoundaries() {
+        assertBand(0, Grade.F);
+        assertBand(39.9, Grade.F);
+        assertBand(40, Grade.E);
+        assertBand(44.9, Grade.E);
+        assertBand(45, Grade.D);
+        assertBand(49.9, Grade.D);
+        assertBand(50, Grade.C);
+        assertBand(59.9, Grade.C);
+        assertBand(60, Grade.B);
+        assertBand(79.9, Grade.B);
+        assertBand(80, Grade.A);
+        assertBand(100, Grade.A);
+    }
+
+    @Test
+    void rejectsMarksOutsideTheRange() {
+        assertBand(-0.1, Grade.INVALID);
+        assertBand(100.1, Grade.INVALID);
+        assertBand(Double.NaN, Grade.INVALID);
+        assertEquals(GradingScale.INVALID, SCALE.band(Double.NaN));
+    }
+
+    @Test
+    void consoleGradesFractionalMarks() {
+        GradingScale previous = GradingScale.active();
+        GradingScale.setActive(SCALE);
+        try {
+            assertEquals("B", CgpaCalc.getGradeFromMarks(79.5));
+            assertEquals("Invalid", CgpaCalc.getGradeFromMarks(100.1));
+        } finally {
+            GradingScale.setActive(previous);
+        }
+    }
+
+    @Test
+    void gedsCoursesPassOneGradeLower() {
+        for (Grade grade : Grade.values()) {
+            if (grade == Grade.INVALID) {
+                continue;
+            }
+            boolean regular = grade.points() >= 3.0;
+            boolean geds = grade.points() >= 2.0;
+            assertEquals(regular, grade.isPassed(false), grade + " regular");
+            assertEquals(geds, grade.isPassed(true), grade + " GEDS");
+
+            int band = SCALE.band(grade.minMarks());
+            assertEquals(regular, SCALE.isPassed(band, false), grade + " regular on the scale");
+            assertEquals(geds, SCALE.isPassed(band, true), grade + " GEDS on the scale");
+        }
+        assertEquals(false, Grade.D.isPassed(false));
+        assertEquals(true, Grade.D.isPassed(true));
+        assertEquals(true, Grade.C.isPassed(false));
+        assertEquals(false, Grade.E.isPassed(true));
+    }
+}
@@ -0,0 +1,56 @@
+package cgpa.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+
+class GradingScaleTest {
+
+    private static GradingScale scale(String grades, String regular, String geds) throws IOException {
+        Properties properties = new Properties();
+        properties.load(new StringReader("name=Test\nmax=4.0\ngrades=" + grades
+            + "\npass.regular=" + regular + "\npass.geds=" + geds + "\n"));
+        return GradingScale.fromProperties(properties);
+    }
+
+    @Test
+    void passingBandsComeFirstOnEveryBuiltInScale() {
+        for (GradingScale scale : GradingScale.builtIns()) {
+            for (boolean geds : new boolean[] {false, true}) {
+                boolean failed = false;
+                for (int band = 0; band < scale.getBandCount(); band++) {
+                    boolean passed = scale.isPassed(band, geds);
+                    assertFalse(passed && failed, scale.getName() + " band " + band);
+                    failed |= !passed;
+                }
+            }
+        }
+    }
+
+    @Test
+    void loadsCustomScale() throws IOException {
+        GradingScale scale = scale("A:70:4.0, B:60:3.0, C:50:2.0, F:0:0.0", "C", "B");
+        assertEquals(4, scale.getBandCount());
+        assertEquals(1, scale.band(65));
+        assertTrue(scale.isPassed(2, false));
+        assertFalse(scale.isPassed(2, true));
+    }
+
+    @Test
+    void rejectsPassBelowAFail() {
+        // Points rising again would let a lower grade pass where a higher one fails
+        assertThrows(IOException.class, () -> scale("A:70:4.0, B:60:1.0, C:50:2.0, F:0:0.0", "C", "C"));
+    }
+
+    @Test
+    void rejectsUnorderedMarks() {
+        assertThrows(IOException.class, () -> scale("A:60:4.0, B:70:3.0, F:0:0.0", "B", "B"));
+    }
+}
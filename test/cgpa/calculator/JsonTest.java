@@ -0,0 +1,57 @@
+package cgpa.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class JsonTest {
+
+    private static Object parse(String json) throws IOException {
+        return Json.parse(new StringReader(json));
+    }
+
+    @Test
+    void parsesTranscript() throws IOException {
+        Object root = parse("{\"courses\": [{\"course\": \"MTH101\", \"marks\": 72.5, \"geds\": true}]}");
+        List<?> courses = (List<?>) ((Map<?, ?>) root).get("courses");
+        Map<?, ?> course = (Map<?, ?>) courses.get(0);
+        assertEquals("MTH101", course.get("course"));
+        assertEquals(72.5, Json.getNumber(course, "marks", Double.NaN));
+        assertEquals(true, Json.getFlag(course, "geds"));
+    }
+
+    @Test
+    void readsFlagsLikeTheCsvImporter() throws IOException {
+        Map<?, ?> flags = (Map<?, ?>) parse("{\"a\": true, \"b\": \"1\", \"c\": 1, \"d\": \" Yes \", \"e\": \"y\","
+            + " \"f\": false, \"g\": \"0\", \"h\": 0, \"i\": 2, \"j\": \"no\", \"k\": null}");
+        for (String key : new String[] {"a", "b", "c", "d", "e"}) {
+            assertEquals(true, Json.getFlag(flags, key), key);
+        }
+        for (String key : new String[] {"f", "g", "h", "i", "j", "k", "missing"}) {
+            assertEquals(false, Json.getFlag(flags, key), key);
+        }
+    }
+
+    @Test
+    void acceptsNestingUpToTheLimit() throws IOException {
+        String json = "[".repeat(Json.MAX_DEPTH / 2) + "{\"a\":".repeat(Json.MAX_DEPTH / 2) + "1"
+            + "}".repeat(Json.MAX_DEPTH / 2) + "]".repeat(Json.MAX_DEPTH / 2);
+        parse(json);
+        // Depth is counted per level, not per container opened
+        parse("[" + "[],".repeat(10_000) + "[]]");
+    }
+
+    @Test
+    void rejectsDeepNestingWithIOException() {
+        assertThrows(IOException.class, () -> parse("[".repeat(Json.MAX_DEPTH + 1) + "]".repeat(Json.MAX_DEPTH + 1)));
+        assertThrows(IOException.class, () -> parse("{\"a\":".repeat(Json.MAX_DEPTH + 1)));
+        // A 1 MiB request body of brackets used to overflow the stack
+        assertThrows(IOException.class, () -> parse("[".repeat(1 << 20)));
+    }
+}
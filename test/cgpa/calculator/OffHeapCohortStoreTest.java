@@ -0,0 +1,56 @@
+package cgpa.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class OffHeapCohortStoreTest {
+
+    private static final double[] MARKS = {0, 39.9, 40, 67.35, 72.5, 100, -5, 120, 1e4, Double.NaN, -0.0, 0.1 + 0.2};
+    private static final double[] CREDITS = {0, 0.5, 1, 2, 3, 3.75, 0.333, -1, 700, 1.0 / 3};
+
+    @Test
+    void readsBackExactlyWhatWasAdded() {
+        GradingScale scale = GradingScale.FIVE_POINT;
+        OffHeapCohortStore store = new OffHeapCohortStore(scale);
+        Random random = new Random(42);
+        int rows = OffHeapCohortStore.BLOCK_ROWS + 1_000;
+        double[] marks = new double[rows];
+        double[] credits = new double[rows];
+        for (int row = 0; row < rows; row++) {
+            if (row % 7 == 0) {
+                store.addStudent("S" + row / 7);
+            }
+            marks[row] = random.nextInt(4) == 0 ? MARKS[random.nextInt(MARKS.length)] : random.nextInt(1001) / 10.0;
+            credits[row] = CREDITS[random.nextInt(CREDITS.length)];
+            store.addCourse("C" + random.nextInt(50), marks[row], credits[row], row % 3 == 0);
+        }
+
+        assertEquals(rows, store.courseCount());
+        assertEquals((rows + 6) / 7, store.studentCount());
+        for (int row = 0; row < rows; row++) {
+            assertEquals(Double.doubleToLongBits(marks[row]), Double.doubleToLongBits(store.marks(row)), "marks " + row);
+            assertEquals(Double.doubleToLongBits(credits[row]), Double.doubleToLongBits(store.credits(row)), "credits " + row);
+            assertEquals(scale.band(marks[row]), store.band(row, scale), "band " + row);
+            assertEquals(row % 3 == 0, store.isGEDS(row));
+        }
+        assertEquals("S0", store.studentId(0));
+        assertEquals(7, store.courseStart(1));
+        assertEquals(rows, store.courseStart(store.studentCount()));
+    }
+
+    @Test
+    void smallCohortAllocatesLittle() {
+        OffHeapCohortStore store = new OffHeapCohortStore(GradingScale.FIVE_POINT);
+        for (int student = 0; student < 10; student++) {
+            store.addStudent("S" + student);
+            for (int course = 0; course < 8; course++) {
+                store.addCourse("C" + course, 70, 3, false);
+            }
+        }
+        assertTrue(store.offHeapBytes() < 64 * 1024, store.offHeapBytes() + " bytes");
+    }
+}
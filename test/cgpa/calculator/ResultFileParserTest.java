@@ -0,0 +1,210 @@
+package cgpa.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ResultFileParserTest {
+
+    private static final int THREADS = 4;
+    // Well past the smallest chunk, so every file is cut into several
+    private static final int TARGET_BYTES = 3 << 18;
+
+    private static final String[] COURSES = {"MTH101", "PHY102", "CHM101", "GST111", "CSC201", "ENG101"};
+    // Catalog courses, so rows may leave their credits blank
+    private static final String[] CATALOG_COURSES = {"RFP101", "RFP102"};
+    private static final String[] MARKS = {
+        "72", "+72", ".5", "39.95", "7.25e1", "1E2", "100.", "-0", "-5", "120", "  64 ", "0.0000000000000001",
+        "12345678901234567"
+    };
+    private static final String[] CREDITS = {"3", "2", "1.5", "+4", ".5", "3e0", "0", " 2 "};
+    private static final String[] GEDS = {"yes", "no", "Y", "TRUE", "1", "0", "", " Yes "};
+
+    @TempDir
+    Path dir;
+
+    @BeforeAll
+    static void defineCatalog() {
+        CourseCatalog.shared().define(CATALOG_COURSES[0], "Catalog course", 3, true);
+        CourseCatalog.shared().define(CATALOG_COURSES[1], "Catalog course", 2.5, false);
+    }
+
+    // Records every sink call, so two readers can be compared call by call
+    private static final class RecordingSink implements ResultSink {
+        final List<String> events = new ArrayList<>();
+        String error;
+
+        @Override
+        public void beginStudent(String studentId) {
+            events.add("begin " + studentId);
+        }
+
+        @Override
+        public void course(BatchCgpaCalc.StudentResult student, String course, double marks,
+                           double creditHours, boolean gedsCourse) {
+            events.add("course " + course + " " + Double.doubleToLongBits(marks) + " "
+                + Double.doubleToLongBits(creditHours) + " " + gedsCourse);
+        }
+
+        @Override
+        public void endStudent(BatchCgpaCalc.StudentResult student) {
+            events.add("end " + student.getStudentId() + " " + student.getCourses() + " " + student.getFailed()
+                + " " + student.getInvalid() + " " + Double.doubleToLongBits(student.getTotalCreditHours())
+                + " " + Double.doubleToLongBits(student.getTotalGradePoints()));
+        }
+    }
+
+    // Shape of one generated file
+    private static final class Variant {
+        String newline = "\n";
+        char separator = ',';
+        boolean header;
+        boolean blankFirstLine;
+        // Replaces the row written at about this share of the file, 0 for none
+        double badRowAt;
+        String badRow;
+    }
+
+    private Path generate(Variant variant, long seed) throws IOException {
+        Random random = new Random(seed);
+        String sep = String.valueOf(variant.separator);
+        StringBuilder text = new StringBuilder();
+        if (variant.blankFirstLine) {
+            text.append("  ").append(variant.newline);
+        }
+        if (variant.header) {
+            text.append(String.join(sep, "studentId", "course", "marks", "credits", "isGEDS")).append(variant.newline);
+        }
+        boolean badWritten = variant.badRow == null;
+        int student = 0;
+        while (text.length() < TARGET_BYTES) {
+            String id = "U" + (100000 + student++);
+            // Mostly short transcripts, and now and then one long enough to span a whole chunk
+            int rows = random.nextInt(50) == 0 ? 12_000 : 1 + random.nextInt(12);
+            for (int r = 0; r < rows; r++) {
+                if (!badWritten && text.length() >= TARGET_BYTES * variant.badRowAt) {
+                    text.append(variant.badRow.replace(",", sep)).append(variant.newline);
+                    badWritten = true;
+                }
+                boolean catalog = random.nextInt(8) == 0;
+                String course = catalog
+                    ? CATALOG_COURSES[random.nextInt(CATALOG_COURSES.length)]
+                    : COURSES[random.nextInt(COURSES.length)];
+                String marks = random.nextBoolean()
+                    ? String.valueOf(random.nextInt(1001) / 10.0)
+                    : MARKS[random.nextInt(MARKS.length)];
+                String credits = catalog && random.nextBoolean() ? "" : CREDITS[random.nextInt(CREDITS.length)];
+                text.append(String.join(sep, id, course, marks, credits, GEDS[random.nextInt(GEDS.length)]))
+                    .append(variant.newline);
+                if (random.nextInt(500) == 0) {
+                    text.append(variant.newline);
+                }
+            }
+        }
+        Path file = dir.resolve("results-" + seed + ".csv");
+        Files.writeString(file, text, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private static RecordingSink sequential(Path file) throws IOException {
+        RecordingSink sink = new RecordingSink();
+        try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            BatchCgpaCalc.report(in, sink);
+        } catch (IOException ex) {
+            sink.error = ex.getMessage();
+        }
+        return sink;
+    }
+
+    private static RecordingSink parallel(Path file) {
+        RecordingSink sink = new RecordingSink();
+        try {
+            ResultFileParser.report(file, THREADS, sink);
+        } catch (IOException ex) {
+            sink.error = ex.getMessage();
+        }
+        return sink;
+    }
+
+    private RecordingSink assertSameAsSequential(Variant variant, long seed) throws IOException {
+        Path file = generate(variant, seed);
+        RecordingSink expected = sequential(file);
+        RecordingSink actual = parallel(file);
+        assertEquals(expected.error, actual.error, "error");
+        assertEquals(expected.events.size(), actual.events.size(), "event count");
+        for (int i = 0; i < expected.events.size(); i++) {
+            assertEquals(expected.events.get(i), actual.events.get(i), "event " + i);
+        }
+        return expected;
+    }
+
+    @Test
+    void matchesSequentialReader() throws IOException {
+        RecordingSink sink = assertSameAsSequential(new Variant(), 1);
+        assertNull(sink.error);
+        assertTrue(sink.events.size() > 10_000);
+    }
+
+    @Test
+    void matchesWithCrlfAndHeader() throws IOException {
+        Variant variant = new Variant();
+        variant.newline = "\r\n";
+        variant.header = true;
+        assertNull(assertSameAsSequential(variant, 2).error);
+    }
+
+    @Test
+    void matchesWithTabsAndBlankFirstLine() throws IOException {
+        Variant variant = new Variant();
+        variant.separator = '\t';
+        variant.blankFirstLine = true;
+        assertNull(assertSameAsSequential(variant, 3).error);
+    }
+
+    @Test
+    void headerAfterBlankFirstLineIsAnErrorInBoth() throws IOException {
+        Variant variant = new Variant();
+        variant.blankFirstLine = true;
+        variant.header = true;
+        assertEquals("Line 2: invalid marks or credit hours", assertSameAsSequential(variant, 4).error);
+    }
+
+    @Test
+    void reportsMalformedRowsInLaterChunksAtTheSameLine() throws IOException {
+        String[] badRows = {
+            "U999999,MTH101,abc,3,no",
+            "U999999,MTH101,72",
+            "U999999,NOTINCATALOG,72,,no",
+            "U999999,MTH101,72,3e,no",
+            // The first student again, long after its rows ended
+            "U100000,MTH101,72,3,no"
+        };
+        long seed = 10;
+        for (String badRow : badRows) {
+            for (String newline : new String[] {"\n", "\r\n"}) {
+                Variant variant = new Variant();
+                variant.newline = newline;
+                variant.header = true;
+                variant.badRowAt = 0.8;
+                variant.badRow = badRow;
+                String error = assertSameAsSequential(variant, seed++).error;
+                assertNotNull(error, badRow);
+                assertTrue(error.startsWith("Line "), error);
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package cgpa.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class ResultWriterTest {
+
+    // Values where rounding the double and rounding its decimal form differ
+    private static final double[] EDGE_VALUES = {
+        17.275, 0.145, 40.105, 68.475, 75.615, 0.125, 0.375, 2.675, 1.005, 1.015, 0.5, 1.5, 2.5,
+        0.05, 0.15, 0.25, 0.35, 0.45, 99.995, 4.995, 3.335, 1.0E-10, 0.0049, 0.005, 0.0051,
+        -0.001, -0.004, -0.005, -0.0, 0.0, -17.275, -0.145, -1.5, 1.0E9, 123456789.125,
+        1.0E15, 1.0E23, 1.0E300, Double.MIN_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE,
+        Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY
+    };
+
+    private static String writeFixed(double value, int decimals) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ResultWriter out = new ResultWriter(Channels.newChannel(bytes), 64)) {
+            out.writeFixed(value, decimals);
+        }
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    private static void assertLikeFormat(double value, int decimals) throws IOException {
+        String expected = String.format(Locale.ROOT, "%." + decimals + "f", value);
+        assertEquals(expected, writeFixed(value, decimals), () -> "writeFixed(" + value + ", " + decimals + ")");
+    }
+
+    @Test
+    void edgeValuesMatchStringFormat() throws IOException {
+        for (double value : EDGE_VALUES) {
+            for (int decimals = 0; decimals <= 9; decimals++) {
+                assertLikeFormat(value, decimals);
+            }
+        }
+    }
+
+    @Test
+    void thousandthsMatchStringFormat() throws IOException {
+        // Values with one more decimal than printed, where ties are common
+        for (int i = -20_000; i <= 20_000; i++) {
+            assertLikeFormat(i / 1000.0, 2);
+            assertLikeFormat(i / 100.0, 1);
+        }
+    }
+
+    @Test
+    void randomValuesMatchStringFormat() throws IOException {
+        Random random = new Random(42);
+        for (int i = 0; i < 50_000; i++) {
+            double cgpa = random.nextDouble() * 5;
+            assertLikeFormat(cgpa, 2);
+            assertLikeFormat(random.nextInt(1_000_000) / 1000.0 * 3.0 / 7.0, 2);
+            assertLikeFormat(cgpa * 20, 1);
+        }
+        // Any double at all, most of them far outside the fast path
+        for (int i = 0; i < 2_000; i++) {
+            assertLikeFormat(Double.longBitsToDouble(random.nextLong()), random.nextInt(10));
+        }
+    }
+}
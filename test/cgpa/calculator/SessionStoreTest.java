@@ -0,0 +1,122 @@
+package cgpa.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SessionStoreTest {
+
+    // Offset of the first course's marks, just past the header
+    private static final int MARKS_OFFSET = 16;
+
+    @TempDir
+    Path dir;
+
+    private Path saveSample() throws IOException {
+        CourseTableModel courses = new CourseTableModel();
+        courses.addCourse("MTH101", 72.5, 3, false);
+        courses.addCourse("GST111", 39.9, 2, true);
+        courses.addCourse("ÉCO201", 100, 0, false);
+        List<CgpaCalcGUI.SemesterRecord> semesters = new ArrayList<>();
+        semesters.add(new CgpaCalcGUI.SemesterRecord("First", "2023/2024", 4.25, 18));
+        semesters.add(new CgpaCalcGUI.SemesterRecord("Second", "", 3.5, 0));
+        Path file = dir.resolve("session." + SessionStore.EXTENSION);
+        SessionStore.save(file, courses, semesters);
+        return file;
+    }
+
+    private static void load(Path file) throws IOException {
+        SessionStore.load(file, new CourseTableModel(), new ArrayList<>());
+    }
+
+    @Test
+    void roundTripsCoursesAndSemesters() throws IOException {
+        Path file = saveSample();
+        CourseTableModel courses = new CourseTableModel();
+        List<CgpaCalcGUI.SemesterRecord> semesters = new ArrayList<>();
+        SessionStore.load(file, courses, semesters);
+
+        assertEquals(3, courses.size());
+        assertEquals("MTH101", courses.getName(0));
+        assertEquals("ÉCO201", courses.getName(2));
+        assertEquals(72.5, courses.getMarks(0));
+        assertEquals(39.9, courses.getMarks(1));
+        assertEquals(2, courses.getCredits(1));
+        assertEquals(0, courses.getCredits(2));
+        assertTrue(courses.isGEDS(1));
+        assertEquals(false, courses.isGEDS(0));
+
+        assertEquals(2, semesters.size());
+        assertEquals("First", semesters.get(0).semester);
+        assertEquals("2023/2024", semesters.get(0).session);
+        assertEquals(4.25, semesters.get(0).cgpa);
+        assertEquals(18, semesters.get(0).credits);
+        assertEquals("", semesters.get(1).session);
+        assertEquals(0, semesters.get(1).credits);
+    }
+
+    @Test
+    void rejectsEveryTruncation() throws IOException {
+        Path file = saveSample();
+        byte[] bytes = Files.readAllBytes(file);
+        Path truncated = dir.resolve("truncated.cgpa");
+        for (int length = 0; length < bytes.length; length++) {
+            Files.write(truncated, Arrays.copyOf(bytes, length));
+            assertThrows(IOException.class, () -> load(truncated), "length " + length);
+        }
+    }
+
+    @Test
+    void rejectsHugeStringLength() throws IOException {
+        Path file = saveSample();
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        // The first name's length follows the marks, credits and GEDS flags of 3 courses
+        bytes.putInt(MARKS_OFFSET + 3 * 17, Integer.MAX_VALUE - 8);
+        Files.write(file, bytes.array());
+        IOException ex = assertThrows(IOException.class, () -> load(file));
+        assertEquals("Corrupt session file", ex.getMessage());
+
+        bytes.putInt(MARKS_OFFSET + 3 * 17, -1);
+        Files.write(file, bytes.array());
+        assertThrows(IOException.class, () -> load(file));
+    }
+
+    @Test
+    void rejectsCoursesTheCalculatorWouldNotAccept() throws IOException {
+        Path file = saveSample();
+        byte[] saved = Files.readAllBytes(file);
+        double[][] corruptions = {{0, 120}, {0, -1}, {1, Double.NaN}, {3, 11}, {4, -2}};
+        for (double[] corruption : corruptions) {
+            // Fields 0-2 are marks, 3-5 credits
+            ByteBuffer bytes = ByteBuffer.wrap(saved.clone()).order(ByteOrder.LITTLE_ENDIAN);
+            bytes.putDouble(MARKS_OFFSET + 8 * (int) corruption[0], corruption[1]);
+            Files.write(file, bytes.array());
+            IOException ex = assertThrows(IOException.class, () -> load(file), Arrays.toString(corruption));
+            assertTrue(ex.getMessage().startsWith("Corrupt session file"), ex.getMessage());
+        }
+    }
+
+    @Test
+    void rejectsOtherFiles() throws IOException {
+        Path file = dir.resolve("other.cgpa");
+        Files.writeString(file, "studentId,course,marks,credits,isGEDS\n");
+        assertEquals("Not a CGPA session file", assertThrows(IOException.class, () -> load(file)).getMessage());
+
+        ByteBuffer header = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(SessionStore.MAGIC).putShort((short) (SessionStore.VERSION + 1));
+        Files.write(file, header.array());
+        assertTrue(assertThrows(IOException.class, () -> load(file)).getMessage().startsWith("Unsupported"));
+    }
+}
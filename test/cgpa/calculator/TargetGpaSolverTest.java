@@ -0,0 +1,120 @@
+package cgpa.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class TargetGpaSolverTest {
+
+    private static final GradingScale SCALE = GradingScale.FIVE_POINT;
+
+    private static TargetGpaSolver.PlannedCourse course(double credits, boolean geds) {
+        return new TargetGpaSolver.PlannedCourse(credits, geds);
+    }
+
+    private static int lowestPassingBand(GradingScale scale, boolean geds) {
+        int band = 0;
+        while (band + 1 < scale.getBandCount() && scale.isPassed(band + 1, geds)) {
+            band++;
+        }
+        return band;
+    }
+
+    @Test
+    void reachedTargetPicksLowestPassingBands() {
+        TargetGpaSolver.PlannedCourse[] planned = {course(3, false), course(2, true), course(4, false)};
+        TargetGpaSolver.Plan plan = TargetGpaSolver.solve(SCALE, 5.0 * 30, 30, planned, 1.0);
+
+        assertTrue(plan.feasible);
+        int regular = lowestPassingBand(SCALE, false);
+        int geds = lowestPassingBand(SCALE, true);
+        assertArrayEquals(new int[] {regular, geds, regular}, plan.bands);
+    }
+
+    @Test
+    void infeasibleTargetReportsBestBands() {
+        TargetGpaSolver.PlannedCourse[] planned = {course(3, false), course(3, false)};
+        // 20 credits at 2.0 so far; even two As only reach 2.69
+        TargetGpaSolver.Plan plan = TargetGpaSolver.solve(SCALE, 40, 20, planned, 4.5);
+
+        assertFalse(plan.feasible);
+        assertArrayEquals(new int[] {0, 0}, plan.bands);
+        assertEquals((40 + 5.0 * 6) / 26, plan.projectedCgpa, 1e-9);
+    }
+
+    @Test
+    void noPlannedCoursesReportsCurrentCgpa() {
+        TargetGpaSolver.Plan plan = TargetGpaSolver.solve(SCALE, 35, 10, new TargetGpaSolver.PlannedCourse[0], 3.0);
+        assertTrue(plan.feasible);
+        assertEquals(3.5, plan.projectedCgpa, 1e-9);
+    }
+
+    @Test
+    void matchesExhaustiveSearch() {
+        Random random = new Random(42);
+        double[] credits = {0.5, 1, 2, 2.5, 3, 4};
+        for (GradingScale scale : GradingScale.builtIns()) {
+            for (int trial = 0; trial < 2_000; trial++) {
+                int n = 1 + random.nextInt(4);
+                TargetGpaSolver.PlannedCourse[] planned = new TargetGpaSolver.PlannedCourse[n];
+                for (int i = 0; i < n; i++) {
+                    planned[i] = course(credits[random.nextInt(credits.length)], random.nextBoolean());
+                }
+                double earnedCredits = random.nextInt(40);
+                double earnedPoints = earnedCredits * random.nextInt((int) scale.getMaxPoints() * 10 + 1) / 10.0;
+                double target = random.nextInt((int) scale.getMaxPoints() * 100 + 1) / 100.0;
+
+                TargetGpaSolver.Plan plan = TargetGpaSolver.solve(scale, earnedPoints, earnedCredits, planned, target);
+                int[] bands = new int[n];
+                int bestMarks = exhaustive(scale, earnedPoints, earnedCredits, planned, target, bands, 0);
+
+                String context = scale.getName() + " trial " + trial;
+                assertEquals(bestMarks != Integer.MAX_VALUE, plan.feasible, context);
+                if (plan.feasible) {
+                    assertEquals(bestMarks, marks(scale, plan.bands), context);
+                    assertTrue(plan.projectedCgpa >= target - 1e-9, context);
+                    for (int i = 0; i < n; i++) {
+                        assertTrue(scale.isPassed(plan.bands[i], planned[i].geds), context);
+                    }
+                } else {
+                    assertArrayEquals(new int[n], plan.bands, context);
+                }
+            }
+        }
+    }
+
+    // Method to find the fewest total minimum marks (in tenths) over every
+    // combination of passing bands that reaches the target
+    private static int exhaustive(GradingScale scale, double earnedPoints, double earnedCredits,
+                                  TargetGpaSolver.PlannedCourse[] planned, double target,
+                                  int[] bands, int i) {
+        if (i == planned.length) {
+            double points = earnedPoints;
+            double totalCredits = earnedCredits;
+            for (int j = 0; j < planned.length; j++) {
+                points += scale.points(bands[j]) * planned[j].credits;
+                totalCredits += planned[j].credits;
+            }
+            return points / totalCredits >= target - 1e-9 ? marks(scale, bands) : Integer.MAX_VALUE;
+        }
+        int best = Integer.MAX_VALUE;
+        for (int band = 0; band < scale.getBandCount() && scale.isPassed(band, planned[i].geds); band++) {
+            bands[i] = band;
+            best = Math.min(best, exhaustive(scale, earnedPoints, earnedCredits, planned, target, bands, i + 1));
+        }
+        return best;
+    }
+
+    private static int marks(GradingScale scale, int[] bands) {
+        int total = 0;
+        for (int band : bands) {
+            total += (int) Math.round(scale.minMarks(band) * 10);
+        }
+        return total;
+    }
+}
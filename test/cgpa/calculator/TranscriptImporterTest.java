@@ -0,0 +1,56 @@
+package cgpa.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TranscriptImporterTest {
+
+    @TempDir
+    Path dir;
+
+    private List<String> rows(String fileName, String text, TranscriptImporter.Summary[] summary) throws IOException {
+        Path file = dir.resolve(fileName);
+        Files.writeString(file, text);
+        List<String> rows = new ArrayList<>();
+        summary[0] = TranscriptImporter.read(file, chunk -> {
+            for (int i = 0; i < chunk.size; i++) {
+                rows.add(chunk.names[i] + " " + chunk.marks[i] + " " + chunk.credits[i] + " " + chunk.geds[i]);
+            }
+        }, bytes -> { });
+        return rows;
+    }
+
+    @Test
+    void jsonAndCsvReadGedsFlagsAlike() throws IOException {
+        TranscriptImporter.Summary[] summary = new TranscriptImporter.Summary[1];
+        List<String> json = rows("t.json", "[{\"course\":\"tia101\",\"marks\":70,\"credits\":3,\"geds\":\"1\"},"
+            + "{\"course\":\"TIA102\",\"marks\":70,\"credits\":3,\"geds\":1},"
+            + "{\"course\":\"TIA103\",\"marks\":70,\"credits\":3,\"isGEDS\":\"no\"}]", summary);
+        List<String> csv = rows("t.csv", "tia101,70,3,1\nTIA102,70,3,yes\nTIA103,70,3,no\n", summary);
+        assertEquals(List.of("TIA101 70.0 3.0 true", "TIA102 70.0 3.0 true", "TIA103 70.0 3.0 false"), json);
+        assertEquals(json, csv);
+    }
+
+    @Test
+    void rejectedRowsDoNotReachTheCatalog() throws IOException {
+        CourseCatalog.shared().define("TIC101", "Catalog course", 4, true);
+        TranscriptImporter.Summary[] summary = new TranscriptImporter.Summary[1];
+        List<String> rows = rows("r.csv", "TIC101,70,,no\nTIX900,120,3,no\nTIX901,70,,no\nTIX902,70,3,no\n", summary);
+
+        assertEquals(List.of("TIC101 70.0 4.0 true", "TIX902 70.0 3.0 false"), rows);
+        assertEquals(2, summary[0].imported);
+        assertEquals(2, summary[0].rejected);
+        assertNull(CourseCatalog.shared().lookup("TIX900"));
+        assertNull(CourseCatalog.shared().lookup("TIX901"));
+        assertEquals("TIX902", CourseCatalog.shared().lookup("TIX902").code());
+    }
+}